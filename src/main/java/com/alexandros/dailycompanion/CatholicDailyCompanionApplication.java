@@ -6,7 +6,16 @@
 
 package com.alexandros.dailycompanion;
 
+import com.alexandros.dailycompanion.calendar.LiturgicalCalendar;
+import com.alexandros.dailycompanion.catalog.SaintCatalog;
+import com.alexandros.dailycompanion.catalog.TodaysSaints;
+import com.alexandros.dailycompanion.image.SaintImageService;
 import com.alexandros.dailycompanion.initializer.DataSeeder;
+import com.alexandros.dailycompanion.initializer.FeastDaySchemaInitializer;
+import com.alexandros.dailycompanion.initializer.RosaryStatsInitializer;
+import com.alexandros.dailycompanion.initializer.SaintRevisionSchemaInitializer;
+import com.alexandros.dailycompanion.initializer.SaintSearchSchemaInitializer;
+import com.alexandros.dailycompanion.service.SaintImagePlaceholderService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -22,11 +31,60 @@ public class CatholicDailyCompanionApplication {
 		SpringApplication.run(CatholicDailyCompanionApplication.class, args);
 	}
 
+	@Bean
+	@Order(0)
+	public CommandLineRunner prepareSaintSchema(FeastDaySchemaInitializer feastDaySchemaInitializer,
+												SaintRevisionSchemaInitializer saintRevisionSchemaInitializer) {
+		return args -> {
+			feastDaySchemaInitializer.migrateFeastDayColumn();
+			saintRevisionSchemaInitializer.ensureRevisionTracking();
+		};
+	}
+
 	@Bean
 	@Order(1)
-	public CommandLineRunner seedData(DataSeeder dataSeeder) {
+	public CommandLineRunner seedData(DataSeeder dataSeeder, SaintImagePlaceholderService saintImagePlaceholderService) {
+		return args -> {
+			dataSeeder.syncSaints();
+			dataSeeder.backfillPatronageTerms();
+			dataSeeder.rewriteImageUrls();
+			saintImagePlaceholderService.fillMissing();
+		};
+	}
+
+	@Bean
+	@Order(2)
+	public CommandLineRunner prepareSaintSearch(SaintSearchSchemaInitializer saintSearchSchemaInitializer) {
+		return args -> {
+			saintSearchSchemaInitializer.ensureSearchIndex();
+		};
+	}
+
+	@Bean
+	@Order(3)
+	public CommandLineRunner loadSaintCatalog(SaintCatalog saintCatalog, TodaysSaints todaysSaints, LiturgicalCalendar liturgicalCalendar) {
+		return args -> {
+			saintCatalog.reload();
+			todaysSaints.rollover();
+			liturgicalCalendar.precompute();
+		};
+	}
+
+	@Bean
+	@Order(4)
+	public CommandLineRunner generateImageDerivatives(SaintImageService saintImageService) {
+		return args -> {
+			Thread generator = new Thread(saintImageService::generateAll, "image-derivatives");
+			generator.setDaemon(true);
+			generator.start();
+		};
+	}
+
+	@Bean
+	@Order(5)
+	public CommandLineRunner backfillRosaryStats(RosaryStatsInitializer rosaryStatsInitializer) {
 		return args -> {
-			dataSeeder.seedSaintsIfEmpty();
+			rosaryStatsInitializer.backfillStats();
 		};
 	}
 }
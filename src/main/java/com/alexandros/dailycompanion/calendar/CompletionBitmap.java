@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.calendar;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable set of completed days, stored as one bit per day.
+ * <p>
+ * Bit {@code i} stands for the epoch day {@code origin + i}, where the origin is the
+ * first completed day; the last bit is the last completed day. Bits are packed into
+ * {@code long} words, low bit first, so counts and streaks are computed a word at a
+ * time with {@link Long#bitCount(long)} and leading/trailing zero counts.
+ */
+public final class CompletionBitmap {
+
+    private static final CompletionBitmap EMPTY = new CompletionBitmap(0, new long[0], 0);
+
+    private final long origin;
+    private final long[] words;
+    private final int length;
+
+    private CompletionBitmap(long origin, long[] words, int length) {
+        this.origin = origin;
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * @param dates completed days, in any order; duplicates are ignored
+     * @return bitmap of the days
+     */
+    public static CompletionBitmap of(Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return EMPTY;
+        }
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (LocalDate date : dates) {
+            first = Math.min(first, date.toEpochDay());
+            last = Math.max(last, date.toEpochDay());
+        }
+
+        int length = Math.toIntExact(last - first + 1);
+        long[] words = new long[(length + 63) >>> 6];
+        for (LocalDate date : dates) {
+            int bit = (int) (date.toEpochDay() - first);
+            words[bit >>> 6] |= 1L << bit;
+        }
+        return new CompletionBitmap(first, words, length);
+    }
+
+    /**
+     * @return first completed day, or {@code null} if there is none
+     */
+    public LocalDate getOrigin() {
+        return length == 0 ? null : LocalDate.ofEpochDay(origin);
+    }
+
+    /**
+     * @return last completed day, or {@code null} if there is none
+     */
+    public LocalDate getLast() {
+        return length == 0 ? null : LocalDate.ofEpochDay(origin + length - 1);
+    }
+
+    /**
+     * @return epoch day of bit {@code 0}, or {@code 0} if there are no completed days
+     */
+    public long getOriginEpochDay() {
+        return origin;
+    }
+
+    /**
+     * @return number of days from the first to the last completed day, inclusive
+     */
+    public int getLength() {
+        return length;
+    }
+
+    public boolean isCompleted(LocalDate date) {
+        long bit = date.toEpochDay() - origin;
+        if (bit < 0 || bit >= length) {
+            return false;
+        }
+        return (words[(int) (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    /**
+     * @return number of completed days
+     */
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * @return consecutive completed days ending at the last completed day
+     */
+    public int currentStreak() {
+        if (length == 0) {
+            return 0;
+        }
+        int index = (length - 1) >>> 6;
+        int top = (length - 1) & 63;
+        // Shift the last completed day into the sign bit and count the ones below it
+        int ones = Long.numberOfLeadingZeros(~(words[index] << (63 - top)));
+        if (ones <= top) {
+            return ones;
+        }
+
+        int streak = top + 1;
+        for (int i = index - 1; i >= 0; i--) {
+            if (words[i] != -1L) {
+                return streak + Long.numberOfLeadingZeros(~words[i]);
+            }
+            streak += 64;
+        }
+        return streak;
+    }
+
+    /**
+     * @return longest run of consecutive completed days
+     */
+    public int longestStreak() {
+        int longest = 0;
+        int run = 0;
+        for (long word : words) {
+            if (word == -1L) {
+                run += 64;
+                continue;
+            }
+            // The low ones continue the run carried over from the previous word
+            run += Long.numberOfTrailingZeros(~word);
+            longest = Math.max(longest, Math.max(run, longestRunIn(word)));
+            // The high ones start the run carried into the next word
+            run = Long.numberOfLeadingZeros(~word);
+        }
+        return Math.max(longest, run);
+    }
+
+    /**
+     * @return completed days, latest first
+     */
+    public List<LocalDate> datesDescending() {
+        List<LocalDate> dates = new ArrayList<>(count());
+        for (int i = words.length - 1; i >= 0; i--) {
+            long word = words[i];
+            while (word != 0) {
+                int bit = 63 - Long.numberOfLeadingZeros(word);
+                dates.add(LocalDate.ofEpochDay(origin + ((long) i << 6) + bit));
+                word &= ~(1L << bit);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * @return the bits as Base64, low bit of the first byte first, {@code ceil(length / 8)} bytes
+     */
+    public String toBase64() {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(words);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), (length + 7) >>> 3));
+    }
+
+    /**
+     * Finds the longest run of ones in a word by shortening every run by one bit per step.
+     */
+    private static int longestRunIn(long word) {
+        int steps = 0;
+        while (word != 0) {
+            word &= word << 1;
+            steps++;
+        }
+        return steps;
+    }
+}
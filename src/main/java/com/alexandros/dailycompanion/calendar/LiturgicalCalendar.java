@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.calendar;
+
+import com.alexandros.dailycompanion.catalog.SaintCatalog;
+import com.alexandros.dailycompanion.catalog.SaintCatalogSnapshot;
+import com.alexandros.dailycompanion.dto.LiturgicalDayDto;
+import com.alexandros.dailycompanion.dto.SaintDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Year-aware liturgical calendar that merges {@link MovableFeasts} with the fixed
+ * saint feasts of the catalog.
+ * <p>
+ * A year is computed once into a table of month views and kept in a small LRU cache,
+ * so a month lookup is a cache hit and an array read. Tables remember the catalog
+ * version they were built from and are rebuilt on access after the catalog changes.
+ * The current and next years are computed at startup.
+ */
+@Component
+public class LiturgicalCalendar {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiturgicalCalendar.class);
+    static final int MAX_CACHED_YEARS = 8;
+
+    private final SaintCatalog saintCatalog;
+    private final Clock clock;
+    private final Map<Integer, YearTable> years = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, YearTable> eldest) {
+            return size() > MAX_CACHED_YEARS;
+        }
+    };
+
+    @Autowired
+    public LiturgicalCalendar(SaintCatalog saintCatalog) {
+        this(saintCatalog, Clock.systemDefaultZone());
+    }
+
+    LiturgicalCalendar(SaintCatalog saintCatalog, Clock clock) {
+        this.saintCatalog = saintCatalog;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns every day of a month with its season, movable celebrations and saints.
+     *
+     * @param year  civil year
+     * @param month calendar month ({@code 1-12})
+     * @return days of the month in date order
+     * @throws IllegalArgumentException if the month or year is out of range
+     */
+    public List<LiturgicalDayDto> getMonth(int year, int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        return table(year).months().get(month - 1);
+    }
+
+    /**
+     * Computes the tables of the current and the next year.
+     */
+    public void precompute() {
+        int year = LocalDate.now(clock).getYear();
+        table(year);
+        table(year + 1);
+        logger.info("Liturgical calendar ready | years={}-{}", year, year + 1);
+    }
+
+    private YearTable table(int year) {
+        SaintCatalogSnapshot snapshot = saintCatalog.snapshot();
+        synchronized (years) {
+            YearTable table = years.get(year);
+            if (table != null && table.version() == snapshot.getVersion()) {
+                return table;
+            }
+        }
+
+        YearTable table = build(year, snapshot);
+        synchronized (years) {
+            years.put(year, table);
+        }
+        return table;
+    }
+
+    private static YearTable build(int year, SaintCatalogSnapshot snapshot) {
+        MovableFeasts movableFeasts = MovableFeasts.of(year);
+        List<List<LiturgicalDayDto>> months = new ArrayList<>(12);
+        for (int month = 1; month <= 12; month++) {
+            LocalDate first = LocalDate.of(year, month, 1);
+            List<LiturgicalDayDto> days = new ArrayList<>(first.lengthOfMonth());
+            for (LocalDate date = first; date.getMonthValue() == month; date = date.plusDays(1)) {
+                List<String> saints = snapshot.getSaintsCelebratedOn(date).stream()
+                        .map(SaintDto::name)
+                        .toList();
+                days.add(new LiturgicalDayDto(date, movableFeasts.seasonOf(date), movableFeasts.celebrationsOn(date), saints));
+            }
+            months.add(List.copyOf(days));
+        }
+        return new YearTable(snapshot.getVersion(), List.copyOf(months));
+    }
+
+    private record YearTable(long version, List<List<LiturgicalDayDto>> months) {
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.calendar;
+
+import com.alexandros.dailycompanion.enums.LiturgicalSeason;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Movable celebrations and seasons of the General Roman Calendar for one civil year.
+ * <p>
+ * Everything is derived from two anchors: Easter Sunday (Gregorian computus) and the
+ * First Sunday of Advent (the fourth Sunday before Christmas). Epiphany is kept on
+ * January 6 and Ascension and Corpus Christi on their Thursdays, as in the universal
+ * calendar; national transfers to Sunday are not applied.
+ */
+public final class MovableFeasts {
+
+    public static final int FIRST_YEAR = 1583;
+    public static final int LAST_YEAR = 9999;
+
+    private static final String[] ORDINALS = {
+            "First", "Second", "Third", "Fourth", "Fifth", "Sixth", "Seventh", "Eighth", "Ninth", "Tenth",
+            "Eleventh", "Twelfth", "Thirteenth", "Fourteenth", "Fifteenth", "Sixteenth", "Seventeenth",
+            "Eighteenth", "Nineteenth", "Twentieth", "Twenty-First", "Twenty-Second", "Twenty-Third",
+            "Twenty-Fourth", "Twenty-Fifth", "Twenty-Sixth", "Twenty-Seventh", "Twenty-Eighth",
+            "Twenty-Ninth", "Thirtieth", "Thirty-First", "Thirty-Second", "Thirty-Third", "Thirty-Fourth"
+    };
+
+    private final LocalDate baptismOfTheLord;
+    private final LocalDate ashWednesday;
+    private final LocalDate holyThursday;
+    private final LocalDate easter;
+    private final LocalDate pentecost;
+    private final LocalDate christTheKing;
+    private final LocalDate firstSundayOfAdvent;
+    private final LocalDate christmas;
+    private final Map<LocalDate, String> celebrations = new HashMap<>();
+
+    private MovableFeasts(int year) {
+        this.easter = easterSunday(year);
+        this.christmas = LocalDate.of(year, 12, 25);
+        this.firstSundayOfAdvent = christmas.with(TemporalAdjusters.previous(DayOfWeek.SUNDAY)).minusWeeks(3);
+        this.christTheKing = firstSundayOfAdvent.minusWeeks(1);
+        this.baptismOfTheLord = LocalDate.of(year, 1, 6).with(TemporalAdjusters.next(DayOfWeek.SUNDAY));
+        this.ashWednesday = easter.minusDays(46);
+        this.holyThursday = easter.minusDays(3);
+        this.pentecost = easter.plusDays(49);
+
+        celebrations.put(baptismOfTheLord, "The Baptism of the Lord");
+        celebrations.put(ashWednesday, "Ash Wednesday");
+        celebrations.put(easter.minusDays(7), "Palm Sunday of the Passion of the Lord");
+        celebrations.put(holyThursday, "Holy Thursday");
+        celebrations.put(easter.minusDays(2), "Good Friday of the Passion of the Lord");
+        celebrations.put(easter.minusDays(1), "Holy Saturday");
+        celebrations.put(easter, "Easter Sunday of the Resurrection of the Lord");
+        celebrations.put(easter.plusDays(7), "Second Sunday of Easter (Divine Mercy Sunday)");
+        celebrations.put(easter.plusDays(39), "The Ascension of the Lord");
+        celebrations.put(pentecost, "Pentecost Sunday");
+        celebrations.put(pentecost.plusDays(1), "Mary, Mother of the Church");
+        celebrations.put(pentecost.plusDays(7), "The Most Holy Trinity");
+        celebrations.put(pentecost.plusDays(11), "The Most Holy Body and Blood of Christ");
+        celebrations.put(pentecost.plusDays(19), "The Most Sacred Heart of Jesus");
+        celebrations.put(pentecost.plusDays(20), "The Immaculate Heart of the Blessed Virgin Mary");
+        celebrations.put(christTheKing, "Our Lord Jesus Christ, King of the Universe");
+
+        LocalDate holyFamily = christmas.plusDays(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        celebrations.put(holyFamily.getYear() == year ? holyFamily : LocalDate.of(year, 12, 30),
+                "The Holy Family of Jesus, Mary and Joseph");
+    }
+
+    /**
+     * @param year civil year between {@value #FIRST_YEAR} and {@value #LAST_YEAR}
+     * @return movable feasts of the year
+     * @throws IllegalArgumentException if the year is outside the Gregorian calendar range
+     */
+    public static MovableFeasts of(int year) {
+        if (year < FIRST_YEAR || year > LAST_YEAR) {
+            throw new IllegalArgumentException(
+                    String.format("Year must be between %d and %d", FIRST_YEAR, LAST_YEAR));
+        }
+        return new MovableFeasts(year);
+    }
+
+    /**
+     * Computes Easter Sunday with the anonymous Gregorian algorithm (Meeus/Jones/Butcher).
+     *
+     * @param year Gregorian year
+     * @return date of Easter Sunday
+     */
+    public static LocalDate easterSunday(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = (h + l - 7 * m + 114) % 31 + 1;
+        return LocalDate.of(year, month, day);
+    }
+
+    public LocalDate getEaster() {
+        return easter;
+    }
+
+    /**
+     * @param date day of this year
+     * @return liturgical season of the day
+     */
+    public LiturgicalSeason seasonOf(LocalDate date) {
+        if (!date.isAfter(baptismOfTheLord)) {
+            return LiturgicalSeason.CHRISTMAS;
+        }
+        if (date.isBefore(ashWednesday)) {
+            return LiturgicalSeason.ORDINARY_TIME;
+        }
+        if (date.isBefore(holyThursday)) {
+            return LiturgicalSeason.LENT;
+        }
+        if (date.isBefore(easter)) {
+            return LiturgicalSeason.PASCHAL_TRIDUUM;
+        }
+        if (!date.isAfter(pentecost)) {
+            return LiturgicalSeason.EASTER;
+        }
+        if (date.isBefore(firstSundayOfAdvent)) {
+            return LiturgicalSeason.ORDINARY_TIME;
+        }
+        if (date.isBefore(christmas)) {
+            return LiturgicalSeason.ADVENT;
+        }
+        return LiturgicalSeason.CHRISTMAS;
+    }
+
+    /**
+     * Returns the movable celebration of a day, or the name of the Sunday if the day
+     * is a Sunday without one.
+     *
+     * @param date day of this year
+     * @return celebrations of the day, usually empty on weekdays
+     */
+    public List<String> celebrationsOn(LocalDate date) {
+        String celebration = celebrations.get(date);
+        if (celebration != null) {
+            return List.of(celebration);
+        }
+        if (date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+            return List.of();
+        }
+        String sunday = sundayName(date);
+        return sunday != null ? List.of(sunday) : List.of();
+    }
+
+    private String sundayName(LocalDate sunday) {
+        return switch (seasonOf(sunday)) {
+            case ADVENT -> ordinal(weeksBetween(firstSundayOfAdvent, sunday)) + " Sunday of Advent";
+            case LENT -> ordinal(weeksBetween(ashWednesday.plusDays(4), sunday)) + " Sunday of Lent";
+            case EASTER -> ordinal(weeksBetween(easter, sunday)) + " Sunday of Easter";
+            case ORDINARY_TIME -> ordinal(sunday.isBefore(ashWednesday)
+                    ? weeksBetween(baptismOfTheLord, sunday)
+                    : 33 - weeksBetween(sunday, christTheKing)) + " Sunday in Ordinary Time";
+            // January 1 (Mary, Mother of God) and 6 (Epiphany) are solemnities, not Sundays after the Nativity
+            case CHRISTMAS -> sunday.getMonthValue() == 1 && sunday.getDayOfMonth() != 1 && sunday.getDayOfMonth() != 6
+                    ? "Second Sunday after the Nativity"
+                    : null;
+            case PASCHAL_TRIDUUM -> null;
+        };
+    }
+
+    private static int weeksBetween(LocalDate from, LocalDate to) {
+        return (int) ChronoUnit.WEEKS.between(from, to);
+    }
+
+    private static String ordinal(int zeroBased) {
+        return ORDINALS[zeroBased];
+    }
+}
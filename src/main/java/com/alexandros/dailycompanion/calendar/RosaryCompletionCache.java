@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.calendar;
+
+import com.alexandros.dailycompanion.repository.RosaryLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory {@link CompletionBitmap}s of the most recently active users.
+ * <p>
+ * A bitmap is derived from the user's completed dates on first access, which reads
+ * a single date column instead of whole log entities, and evicted when the user
+ * completes a rosary. Every eviction bumps a counter, so a bitmap loaded while a
+ * completion was committing is returned but not cached.
+ */
+@Component
+public class RosaryCompletionCache {
+
+    static final int MAX_CACHED_USERS = 10_000;
+
+    private final RosaryLogRepository rosaryLogRepository;
+    private final Map<UUID, CompletionBitmap> bitmaps = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, CompletionBitmap> eldest) {
+            return size() > MAX_CACHED_USERS;
+        }
+    };
+    private long evictions;
+
+    @Autowired
+    public RosaryCompletionCache(RosaryLogRepository rosaryLogRepository) {
+        this.rosaryLogRepository = rosaryLogRepository;
+    }
+
+    /**
+     * @param userId user whose completions are read
+     * @return completed days of the user
+     */
+    public CompletionBitmap get(UUID userId) {
+        long stamp;
+        synchronized (bitmaps) {
+            CompletionBitmap cached = bitmaps.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            stamp = evictions;
+        }
+
+        CompletionBitmap loaded = CompletionBitmap.of(rosaryLogRepository.findCompletedDates(userId));
+        synchronized (bitmaps) {
+            if (evictions == stamp) {
+                bitmaps.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Evicts a user's bitmap once the current transaction commits, or right away
+     * outside a transaction.
+     *
+     * @param userId user whose completions changed
+     */
+    public void evictAfterCommit(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private void evict(UUID userId) {
+        synchronized (bitmaps) {
+            evictions++;
+            bitmaps.remove(userId);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.alexandros.dailycompanion.dto.SaintListDto;
+
+import java.util.*;
+
+/**
+ * Immutable inverted index from normalized patronage terms to saints.
+ * <p>
+ * Mirrors the {@code saint_patronages} join table in memory. Terms are kept in a
+ * sorted array so autocomplete can binary-search the prefix range.
+ */
+public final class PatronageIndex {
+
+    private final List<SaintListDto> saints;
+    private final Map<String, Set<UUID>> saintIdsByTerm;
+    private final String[] sortedTerms;
+
+    /**
+     * @param saints       saints in name order
+     * @param termsBySaint persisted patronage terms per saint id
+     */
+    public PatronageIndex(List<SaintListDto> saints, Map<UUID, Set<String>> termsBySaint) {
+        this.saints = saints;
+
+        Map<String, Set<UUID>> byTerm = new HashMap<>();
+        termsBySaint.forEach((saintId, terms) -> {
+            for (String term : terms) {
+                byTerm.computeIfAbsent(term, k -> new HashSet<>()).add(saintId);
+            }
+        });
+
+        Map<String, Set<UUID>> frozen = new HashMap<>();
+        byTerm.forEach((term, ids) -> frozen.put(term, Set.copyOf(ids)));
+        this.saintIdsByTerm = Map.copyOf(frozen);
+        this.sortedTerms = byTerm.keySet().stream().sorted().toArray(String[]::new);
+    }
+
+    /**
+     * Finds saints by patronage terms.
+     *
+     * @param terms    query terms, normalized the same way as stored terms
+     * @param matchAll {@code true} to require every term, {@code false} to accept any
+     * @return matching saints in name order
+     */
+    public List<SaintListDto> findSaints(Collection<String> terms, boolean matchAll) {
+        Set<UUID> result = null;
+        for (String raw : terms) {
+            String term = TextNormalizer.fold(raw);
+            if (term.isEmpty()) {
+                continue;
+            }
+
+            Set<UUID> ids = saintIdsByTerm.getOrDefault(term, Set.of());
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else if (matchAll) {
+                result.retainAll(ids);
+            } else {
+                result.addAll(ids);
+            }
+        }
+
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> matches = result;
+        return saints.stream().filter(saint -> matches.contains(saint.id())).toList();
+    }
+
+    /**
+     * Suggests patronage terms for autocomplete.
+     * <p>
+     * Terms starting with the prefix come first, followed by terms containing
+     * a later word that starts with it (e.g. {@code sna} suggests {@code against snakes}).
+     *
+     * @param prefix typed text
+     * @param limit  maximum number of suggestions
+     * @return suggested terms
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String needle = TextNormalizer.fold(prefix);
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<String> suggestions = new LinkedHashSet<>();
+        int start = Arrays.binarySearch(sortedTerms, needle);
+        if (start < 0) {
+            start = -start - 1;
+        }
+        for (int i = start; i < sortedTerms.length && suggestions.size() < limit && sortedTerms[i].startsWith(needle); i++) {
+            suggestions.add(sortedTerms[i]);
+        }
+
+        String wordStart = " " + needle;
+        for (int i = 0; i < sortedTerms.length && suggestions.size() < limit; i++) {
+            if (sortedTerms[i].contains(wordStart)) {
+                suggestions.add(sortedTerms[i]);
+            }
+        }
+        return List.copyOf(suggestions);
+    }
+}
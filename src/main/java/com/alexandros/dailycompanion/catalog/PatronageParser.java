@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class PatronageParser {
+    private static final Pattern SEPARATORS = Pattern.compile("[,;]");
+    private static final Pattern LEADING_FILLERS = Pattern.compile("^(?:(?:and|the|a|an) )+");
+
+    /**
+     * Splits a free-text patronage description into normalized terms.
+     * <p>
+     * {@code "Ireland, engineers, and against snakes"} becomes
+     * {@code [ireland, engineers, against snakes]}; leading conjunctions and
+     * articles are dropped and every term is folded with {@link TextNormalizer#fold(String)}.
+     *
+     * @param patronage raw patronage text, may be {@code null}
+     * @return ordered set of distinct terms, empty if there are none
+     */
+    public static Set<String> parse(String patronage) {
+        Set<String> terms = new LinkedHashSet<>();
+        if(patronage == null || patronage.isBlank()) {
+            return terms;
+        }
+
+        for(String part : SEPARATORS.split(patronage)) {
+            String term = LEADING_FILLERS.matcher(TextNormalizer.fold(part)).replaceFirst("");
+            if(!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
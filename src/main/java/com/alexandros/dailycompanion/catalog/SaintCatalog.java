@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.alexandros.dailycompanion.repository.SaintRepository;
+import com.alexandros.dailycompanion.repository.SaintTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory holder of the current {@link SaintCatalogSnapshot}.
+ * <p>
+ * The snapshot is loaded once at startup and replaced atomically whenever
+ * a saint is created, updated or deleted. Readers never touch the database
+ * and never block; they simply read the current snapshot reference.
+ */
+@Component
+public class SaintCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SaintCatalog.class);
+    private final SaintRepository saintRepository;
+    private final SaintTombstoneRepository saintTombstoneRepository;
+    private final AtomicReference<SaintCatalogSnapshot> current = new AtomicReference<>();
+    private long version = 0;
+
+    @Autowired
+    public SaintCatalog(SaintRepository saintRepository, SaintTombstoneRepository saintTombstoneRepository) {
+        this.saintRepository = saintRepository;
+        this.saintTombstoneRepository = saintTombstoneRepository;
+    }
+
+    /**
+     * Returns the current catalog snapshot, loading it on first access.
+     *
+     * @return current immutable snapshot
+     */
+    public SaintCatalogSnapshot snapshot() {
+        SaintCatalogSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : reload();
+    }
+
+    /**
+     * Rebuilds the snapshot from the database and publishes it.
+     * <p>
+     * Reloads are serialized so a slower, older reload can never overwrite
+     * a snapshot built from newer data.
+     *
+     * @return newly published snapshot
+     */
+    public synchronized SaintCatalogSnapshot reload() {
+        SaintCatalogSnapshot snapshot = SaintCatalogSnapshot.of(++version,
+                saintRepository.findAllWithPatronageTerms(),
+                saintTombstoneRepository.findAll());
+        current.set(snapshot);
+        logger.info("Loaded saint catalog version {} ({} saints, revision {})",
+                snapshot.getVersion(), snapshot.getSaints().size(), snapshot.getRevision());
+        return snapshot;
+    }
+
+    /**
+     * Schedules a reload once the surrounding transaction commits, or reloads
+     * immediately when no transaction is active.
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+}
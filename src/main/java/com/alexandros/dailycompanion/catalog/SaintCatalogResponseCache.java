@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of serialized feast calendar responses, keyed per catalog version.
+ * <p>
+ * Responses are serialized and compressed at most once per catalog snapshot.
+ * When the catalog is swapped, the cached responses of the previous version
+ * are discarded on the next access.
+ */
+@Component
+public class SaintCatalogResponseCache {
+
+    private static final String FEAST_DAYS_KEY = "feast";
+    private static final String MONTH_KEY_PREFIX = "month-";
+
+    private final SaintCatalog saintCatalog;
+    private final ObjectMapper objectMapper;
+    private volatile VersionedResponses responses = new VersionedResponses(-1);
+
+    @Autowired
+    public SaintCatalogResponseCache(SaintCatalog saintCatalog, ObjectMapper objectMapper) {
+        this.saintCatalog = saintCatalog;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return serialized map of all feast codes ({@code MM-dd}) to saint names
+     */
+    public SerializedResponse feastDays() {
+        return get(FEAST_DAYS_KEY, SaintCatalogSnapshot::getFeastDayMap);
+    }
+
+    /**
+     * @param month calendar month ({@code 1-12}); other values yield an empty map
+     * @return serialized map of feast days in the month to saint names
+     */
+    public SerializedResponse month(int month) {
+        if (month < 1 || month > 12) {
+            return get(MONTH_KEY_PREFIX + "none", snapshot -> Map.of());
+        }
+        return get(MONTH_KEY_PREFIX + month, snapshot -> snapshot.getSaintNamesByMonth(month));
+    }
+
+    private SerializedResponse get(String key, Function<SaintCatalogSnapshot, Object> body) {
+        SaintCatalogSnapshot snapshot = saintCatalog.snapshot();
+        VersionedResponses current = responses;
+        if (current.version != snapshot.getVersion()) {
+            current = new VersionedResponses(snapshot.getVersion());
+            responses = current;
+        }
+        return current.cache.computeIfAbsent(key, k -> serialize(body.apply(snapshot)));
+    }
+
+    private SerializedResponse serialize(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            String hash = sha256(json);
+            return new SerializedResponse(json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize saint catalog response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class VersionedResponses {
+        private final long version;
+        private final Map<String, SerializedResponse> cache = new ConcurrentHashMap<>();
+
+        private VersionedResponses(long version) {
+            this.version = version;
+        }
+    }
+}
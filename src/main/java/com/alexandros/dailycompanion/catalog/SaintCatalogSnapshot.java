@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.alexandros.dailycompanion.dto.SaintChangesDto;
+import com.alexandros.dailycompanion.dto.SaintDto;
+import com.alexandros.dailycompanion.dto.SaintListDto;
+import com.alexandros.dailycompanion.dto.UpcomingFeastDto;
+import com.alexandros.dailycompanion.image.ImagePlaceholder;
+import com.alexandros.dailycompanion.image.ImageVariant;
+import com.alexandros.dailycompanion.mapper.SaintDtoMapper;
+import com.alexandros.dailycompanion.model.Saint;
+import com.alexandros.dailycompanion.model.SaintTombstone;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.*;
+
+/**
+ * Immutable, versioned view of the complete saint catalog.
+ * <p>
+ * A snapshot is built once from the {@code saints} table and never modified afterwards.
+ * Besides the flat, name-ordered saint list (whose list rows point at image
+ * thumbnails) it holds:
+ * <ul>
+ *     <li>a lookup by saint id</li>
+ *     <li>a 366-slot array indexed by feast day (including February 29)</li>
+ *     <li>a circular "next feast day" index over those slots</li>
+ *     <li>precomputed per-month groupings and the full feast-day map</li>
+ *     <li>a trigram {@link SaintNameIndex} for name search</li>
+ *     <li>a {@link PatronageIndex} from patronage terms to saints</li>
+ *     <li>saints and tombstones ordered by catalog revision, for client sync</li>
+ * </ul>
+ * Readers can therefore use a snapshot from any thread without synchronization.
+ */
+public final class SaintCatalogSnapshot {
+
+    public static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int LEAP_YEAR = 2000;
+    private static final int FEBRUARY_29 = 59;
+
+    private final long version;
+    private final List<SaintDto> saints;
+    private final List<SaintListDto> saintList;
+    private final Map<UUID, ImagePlaceholder> placeholders;
+    private final Map<UUID, SaintDto> saintsById;
+    private final List<SaintDto>[] saintsByFeastDay;
+    private final int[] nextFeastDay;
+    private final Map<Integer, Map<String, List<String>>> saintNamesByMonth;
+    private final Map<String, List<String>> feastDayMap;
+    private final SaintNameIndex nameIndex;
+    private final PatronageIndex patronageIndex;
+    private final SimilarSaintIndex similarIndex;
+    private final long revision;
+    private final long[] saintRevisions;
+    private final List<SaintDto> saintsByRevision;
+    private final long[] tombstoneRevisions;
+    private final List<UUID> tombstoneIds;
+
+    @SuppressWarnings("unchecked")
+    private SaintCatalogSnapshot(long version,
+                                 List<SaintDto> saints,
+                                 Map<UUID, Set<String>> patronageTerms,
+                                 Map<UUID, Long> revisions,
+                                 Map<UUID, ImagePlaceholder> placeholders,
+                                 List<SaintTombstone> tombstones) {
+        this.version = version;
+        this.saints = List.copyOf(saints);
+        this.placeholders = Map.copyOf(placeholders);
+        this.saintList = saints.stream()
+                .map(this::toListItem)
+                .toList();
+        this.nameIndex = new SaintNameIndex(saintList);
+        this.patronageIndex = new PatronageIndex(saintList, patronageTerms);
+        this.similarIndex = new SimilarSaintIndex(this.saints, saintList);
+
+        Map<UUID, SaintDto> byId = new HashMap<>();
+        List<SaintDto>[] byFeastDay = new List[DAYS_IN_LEAP_YEAR];
+        Map<Integer, Map<String, List<String>>> byMonth = new HashMap<>();
+        Map<String, List<String>> feastMap = new TreeMap<>();
+
+        for (SaintDto saint : saints) {
+            if (saint.id() != null) {
+                byId.put(saint.id(), saint);
+            }
+            MonthDay feastDay = saint.feastDay();
+            if (feastDay == null) {
+                continue;
+            }
+
+            int index = dayIndex(feastDay);
+            if (byFeastDay[index] == null) {
+                byFeastDay[index] = new ArrayList<>();
+            }
+            byFeastDay[index].add(saint);
+
+            byMonth.computeIfAbsent(feastDay.getMonthValue(), k -> new TreeMap<>())
+                    .computeIfAbsent(feastDay.toString(), k -> new ArrayList<>())
+                    .add(saint.name());
+
+            String feastCode = String.format("%02d-%02d", feastDay.getMonthValue(), feastDay.getDayOfMonth());
+            feastMap.computeIfAbsent(feastCode, k -> new ArrayList<>()).add(saint.name());
+        }
+
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR; i++) {
+            byFeastDay[i] = byFeastDay[i] == null ? List.of() : List.copyOf(byFeastDay[i]);
+        }
+
+        this.saintsById = Map.copyOf(byId);
+        this.saintsByFeastDay = byFeastDay;
+        this.nextFeastDay = nextFeastDays(byFeastDay);
+        this.saintNamesByMonth = freeze(byMonth);
+        this.feastDayMap = freezeGroups(feastMap);
+
+        List<SaintDto> byRevision = new ArrayList<>(saints);
+        byRevision.sort(Comparator.comparingLong(saint -> revisions.getOrDefault(saint.id(), 0L)));
+        this.saintsByRevision = List.copyOf(byRevision);
+        this.saintRevisions = byRevision.stream()
+                .mapToLong(saint -> revisions.getOrDefault(saint.id(), 0L))
+                .toArray();
+
+        List<SaintTombstone> sortedTombstones = tombstones.stream()
+                .sorted(Comparator.comparingLong(SaintTombstone::getRevision))
+                .toList();
+        this.tombstoneIds = sortedTombstones.stream().map(SaintTombstone::getSaintId).toList();
+        this.tombstoneRevisions = sortedTombstones.stream().mapToLong(SaintTombstone::getRevision).toArray();
+
+        long latest = saintRevisions.length > 0 ? saintRevisions[saintRevisions.length - 1] : 0;
+        if (tombstoneRevisions.length > 0) {
+            latest = Math.max(latest, tombstoneRevisions[tombstoneRevisions.length - 1]);
+        }
+        this.revision = latest;
+    }
+
+    /**
+     * Builds a snapshot from the given saint entities.
+     *
+     * @param version catalog version of the snapshot
+     * @param saints  all persisted saints
+     * @return immutable snapshot, ordered by saint name
+     */
+    public static SaintCatalogSnapshot of(long version, Collection<Saint> saints) {
+        return of(version, saints, List.of());
+    }
+
+    /**
+     * Builds a snapshot from the given saint entities and deletion records.
+     *
+     * @param version    catalog version of the snapshot
+     * @param saints     all persisted saints
+     * @param tombstones records of deleted saints
+     * @return immutable snapshot, ordered by saint name
+     */
+    public static SaintCatalogSnapshot of(long version, Collection<Saint> saints, Collection<SaintTombstone> tombstones) {
+        List<SaintDto> dtos = saints.stream()
+                .map(SaintDtoMapper::toSaintDto)
+                .sorted(Comparator.comparing(SaintDto::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .toList();
+
+        Map<UUID, Set<String>> patronageTerms = new HashMap<>();
+        Map<UUID, Long> revisions = new HashMap<>();
+        Map<UUID, ImagePlaceholder> placeholders = new HashMap<>();
+        for (Saint saint : saints) {
+            if (saint.getId() == null) {
+                continue;
+            }
+            if (saint.getPatronageTerms() != null) {
+                patronageTerms.put(saint.getId(), Set.copyOf(saint.getPatronageTerms()));
+            }
+            if (saint.getRevision() != null) {
+                revisions.put(saint.getId(), saint.getRevision());
+            }
+            if (saint.getImageBlurHash() != null && saint.getImageWidth() != null && saint.getImageHeight() != null) {
+                placeholders.put(saint.getId(), new ImagePlaceholder(saint.getImageBlurHash(), saint.getImageColor(),
+                        saint.getImageWidth(), saint.getImageHeight()));
+            }
+        }
+        return new SaintCatalogSnapshot(version, dtos, patronageTerms, revisions, placeholders, List.copyOf(tombstones));
+    }
+
+    /**
+     * Returns the zero-based slot of a feast day within a leap year, so
+     * February 29 gets its own slot and the array always has 366 entries.
+     *
+     * @param monthDay feast day
+     * @return slot index between {@code 0} and {@code 365}
+     */
+    public static int dayIndex(MonthDay monthDay) {
+        return monthDay.atYear(LEAP_YEAR).getDayOfYear() - 1;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return highest catalog revision of any saint or deletion in this snapshot
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Returns the saints changed and deleted after a given revision.
+     * <p>
+     * Revision {@code 0} asks for the complete catalog. A revision newer than the
+     * snapshot's (e.g. after the database was rebuilt) also yields the complete
+     * catalog, flagged as {@code full} so the client discards its copy.
+     *
+     * @param since last revision the client has applied
+     * @return changes after {@code since}
+     * @throws IllegalArgumentException if {@code since} is negative
+     */
+    public SaintChangesDto changesSince(long since) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Revision must not be negative");
+        }
+        if (since == 0 || since > revision) {
+            return new SaintChangesDto(revision, true, saintsByRevision, List.of());
+        }
+
+        List<SaintDto> changed = saintsByRevision.subList(firstAfter(saintRevisions, since), saintsByRevision.size());
+        List<UUID> deleted = tombstoneIds.subList(firstAfter(tombstoneRevisions, since), tombstoneIds.size());
+        return new SaintChangesDto(revision, false, changed, deleted);
+    }
+
+    public List<SaintDto> getSaints() {
+        return saints;
+    }
+
+    public List<SaintListDto> getSaintList() {
+        return saintList;
+    }
+
+    public List<SaintListDto> searchByName(String query) {
+        return nameIndex.search(query);
+    }
+
+    public List<SaintListDto> findByPatronage(Collection<String> terms, boolean matchAll) {
+        return patronageIndex.findSaints(terms, matchAll);
+    }
+
+    public List<String> suggestPatronage(String prefix, int limit) {
+        return patronageIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * @param saintId saint to find neighbors of
+     * @param limit   maximum number of saints
+     * @return saints with the most similar biography and patronage, most similar first
+     */
+    public List<SaintListDto> findSimilar(UUID saintId, int limit) {
+        return similarIndex.similarTo(saintId, limit);
+    }
+
+    public Optional<SaintDto> findById(UUID saintId) {
+        return Optional.ofNullable(saintsById.get(saintId));
+    }
+
+    public List<SaintDto> getSaintsOn(MonthDay feastDay) {
+        return saintsByFeastDay[dayIndex(feastDay)];
+    }
+
+    /**
+     * Returns the next feast days on or after a date, following the circular feast-day
+     * index across the end of the year. Saints of February 29 are celebrated on
+     * February 28 in common years.
+     *
+     * @param from  first date to consider
+     * @param limit maximum number of feast days
+     * @return up to {@code limit} feast days within one year of {@code from}, in date order
+     */
+    public List<UpcomingFeastDto> getUpcomingFeasts(LocalDate from, int limit) {
+        List<UpcomingFeastDto> feasts = new ArrayList<>(Math.min(limit, DAYS_IN_LEAP_YEAR));
+        LocalDate end = from.plusYears(1);
+        LocalDate date = from;
+
+        while (feasts.size() < limit) {
+            int slot = dayIndex(MonthDay.from(date));
+            int next = nextFeastDay[slot];
+            if (next < 0) {
+                break;
+            }
+
+            int year = next < slot ? date.getYear() + 1 : date.getYear();
+            LocalDate feastDate = next == FEBRUARY_29 && !Year.isLeap(year)
+                    ? LocalDate.of(year, 2, 28)
+                    : MonthDay.from(LocalDate.ofYearDay(LEAP_YEAR, next + 1)).atYear(year);
+            if (!feastDate.isBefore(end)) {
+                break;
+            }
+
+            feasts.add(new UpcomingFeastDto(feastDate, saintListOn(feastDate)));
+            date = feastDate.plusDays(1);
+        }
+        return feasts;
+    }
+
+    /**
+     * Returns the saints celebrated on a calendar date. In common years, saints of
+     * February 29 are celebrated on February 28.
+     *
+     * @param date calendar date
+     * @return saints celebrated on the date
+     */
+    public List<SaintDto> getSaintsCelebratedOn(LocalDate date) {
+        List<SaintDto> saints = saintsByFeastDay[dayIndex(MonthDay.from(date))];
+        if (date.getMonthValue() == 2 && date.getDayOfMonth() == 28 && !date.isLeapYear()
+                && !saintsByFeastDay[FEBRUARY_29].isEmpty()) {
+            List<SaintDto> merged = new ArrayList<>(saints);
+            merged.addAll(saintsByFeastDay[FEBRUARY_29]);
+            return List.copyOf(merged);
+        }
+        return saints;
+    }
+
+    /**
+     * @param saint saint of this snapshot
+     * @return summary view of the saint with its thumbnail URL and image placeholder
+     */
+    public SaintListDto toListItem(SaintDto saint) {
+        ImagePlaceholder placeholder = saint.id() == null ? null : placeholders.get(saint.id());
+        return new SaintListDto(saint.id(), saint.name(), saint.feastDay(), ImageVariant.THUMBNAIL.urlFor(saint.imageUrl()),
+                placeholder == null ? null : placeholder.blurHash(),
+                placeholder == null ? null : placeholder.color(),
+                placeholder == null ? null : placeholder.width(),
+                placeholder == null ? null : placeholder.height());
+    }
+
+    private List<SaintListDto> saintListOn(LocalDate date) {
+        return getSaintsCelebratedOn(date).stream()
+                .map(this::toListItem)
+                .toList();
+    }
+
+    public Map<String, List<String>> getSaintNamesByMonth(int month) {
+        return saintNamesByMonth.getOrDefault(month, Map.of());
+    }
+
+    public Map<String, List<String>> getFeastDayMap() {
+        return feastDayMap;
+    }
+
+    /**
+     * For every slot, finds the first slot at or after it (wrapping around the end of
+     * the year) that has saints, or {@code -1} if no slot has any. The second pass
+     * carries the first feast of the year over to the slots after the last one.
+     */
+    private static int[] nextFeastDays(List<SaintDto>[] byFeastDay) {
+        int[] next = new int[DAYS_IN_LEAP_YEAR];
+        int following = -1;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = DAYS_IN_LEAP_YEAR - 1; i >= 0; i--) {
+                if (!byFeastDay[i].isEmpty()) {
+                    following = i;
+                }
+                next[i] = following;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * @return index of the first element greater than {@code value} in an ascending array
+     */
+    private static int firstAfter(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Map<Integer, Map<String, List<String>>> freeze(Map<Integer, Map<String, List<String>>> byMonth) {
+        Map<Integer, Map<String, List<String>>> frozen = new HashMap<>();
+        byMonth.forEach((month, groups) -> frozen.put(month, freezeGroups(groups)));
+        return Map.copyOf(frozen);
+    }
+
+    private static Map<String, List<String>> freezeGroups(Map<String, List<String>> groups) {
+        Map<String, List<String>> frozen = new LinkedHashMap<>();
+        groups.forEach((key, names) -> frozen.put(key, Collections.unmodifiableList(names)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.alexandros.dailycompanion.dto.SaintListDto;
+
+import java.util.*;
+
+/**
+ * Immutable trigram inverted index over saint names.
+ * <p>
+ * Names are folded with {@link TextNormalizer#fold(String)} so that searches
+ * ignore case and diacritics. Queries of three or more characters intersect the
+ * posting lists of their trigrams and verify the remaining candidates; shorter
+ * queries fall back to a scan of the folded names.
+ * <p>
+ * Matches are ranked: names starting with the query first, then names with a word
+ * starting with the query, then any other substring match. Ties keep name order.
+ */
+public final class SaintNameIndex {
+
+    private static final int GRAM = 3;
+    private static final int RANK_NAME_PREFIX = 0;
+    private static final int RANK_WORD_PREFIX = 1;
+    private static final int RANK_SUBSTRING = 2;
+
+    private final List<SaintListDto> saints;
+    private final String[] foldedNames;
+    private final Map<String, int[]> postings;
+
+    /**
+     * @param saints saints in name order; positions in this list are the index ordinals
+     */
+    public SaintNameIndex(List<SaintListDto> saints) {
+        this.saints = saints;
+        this.foldedNames = new String[saints.size()];
+
+        Map<String, List<Integer>> grams = new HashMap<>();
+        for (int ordinal = 0; ordinal < saints.size(); ordinal++) {
+            String folded = TextNormalizer.fold(saints.get(ordinal).name());
+            foldedNames[ordinal] = folded;
+            for (String gram : trigrams(folded)) {
+                List<Integer> posting = grams.computeIfAbsent(gram, k -> new ArrayList<>());
+                if (posting.isEmpty() || posting.get(posting.size() - 1) != ordinal) {
+                    posting.add(ordinal);
+                }
+            }
+        }
+
+        Map<String, int[]> compact = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, posting) -> compact.put(gram, posting.stream().mapToInt(Integer::intValue).toArray()));
+        this.postings = compact;
+    }
+
+    /**
+     * Finds all saints whose folded name contains the folded query.
+     *
+     * @param query raw user input
+     * @return ranked matches; all saints in name order if the query is blank
+     */
+    public List<SaintListDto> search(String query) {
+        String needle = TextNormalizer.fold(query);
+        if (needle.isEmpty()) {
+            return saints;
+        }
+
+        int[] candidates = needle.length() < GRAM ? null : candidates(needle);
+        if (candidates != null && candidates.length == 0) {
+            return List.of();
+        }
+
+        List<int[]> matches = new ArrayList<>();
+        if (candidates == null) {
+            for (int ordinal = 0; ordinal < foldedNames.length; ordinal++) {
+                addIfMatch(matches, ordinal, needle);
+            }
+        } else {
+            for (int ordinal : candidates) {
+                addIfMatch(matches, ordinal, needle);
+            }
+        }
+
+        matches.sort(Comparator.<int[]>comparingInt(m -> m[1]).thenComparingInt(m -> m[0]));
+        List<SaintListDto> result = new ArrayList<>(matches.size());
+        for (int[] match : matches) {
+            result.add(saints.get(match[0]));
+        }
+        return result;
+    }
+
+    private void addIfMatch(List<int[]> matches, int ordinal, String needle) {
+        String name = foldedNames[ordinal];
+        int position = name.indexOf(needle);
+        if (position < 0) {
+            return;
+        }
+
+        int rank;
+        if (position == 0) {
+            rank = RANK_NAME_PREFIX;
+        } else if (name.contains(" " + needle)) {
+            rank = RANK_WORD_PREFIX;
+        } else {
+            rank = RANK_SUBSTRING;
+        }
+        matches.add(new int[]{ordinal, rank});
+    }
+
+    private int[] candidates(String needle) {
+        int[] result = null;
+        for (String gram : trigrams(needle)) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            result = result == null ? posting : intersect(result, posting);
+            if (result.length == 0) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                out[n++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+/**
+ * Pre-serialized JSON response body together with its gzip-compressed variant.
+ * <p>
+ * Each variant carries its own strong ETag derived from the uncompressed content,
+ * so identical catalog content always yields the same ETag, even across restarts.
+ *
+ * @param json     UTF-8 encoded JSON body
+ * @param gzip     gzip-compressed copy of {@code json}
+ * @param etag     strong ETag of the identity-encoded body
+ * @param gzipEtag strong ETag of the gzip-encoded body
+ */
+public record SerializedResponse(byte[] json,
+                                 byte[] gzip,
+                                 String etag,
+                                 String gzipEtag) {
+
+    /**
+     * Checks whether an {@code If-None-Match} header matches either variant.
+     *
+     * @param ifNoneMatch raw header value, may be {@code null}
+     * @return {@code true} if the client already holds the current representation
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.alexandros.dailycompanion.dto.SaintDto;
+import com.alexandros.dailycompanion.dto.SaintListDto;
+
+import java.util.*;
+
+/**
+ * Immutable table of the most similar saints of every saint.
+ * <p>
+ * Each saint's biography and patronage is turned into a TF-IDF vector, with patronage
+ * words counting {@value #PATRONAGE_WEIGHT} times. Vectors are L2-normalized, so the dot
+ * product of two vectors is their cosine similarity. Dot products are accumulated via
+ * per-term posting lists, so each saint is only compared with saints sharing a term.
+ * <p>
+ * The {@value #NEIGHBORS} best neighbors of every saint are computed when the index is
+ * built; a lookup afterwards is an array read.
+ */
+public final class SimilarSaintIndex {
+
+    static final int NEIGHBORS = 10;
+    private static final float PATRONAGE_WEIGHT = 2f;
+    private static final int MIN_WORD_LENGTH = 3;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "about", "after", "against", "all", "also", "and", "any", "are", "as", "because", "been",
+            "before", "being", "but", "by", "can", "could", "did", "during", "each", "for", "from",
+            "had", "has", "have", "her", "hers", "him", "his", "how", "into", "its", "may", "more",
+            "most", "not", "now", "one", "only", "other", "our", "over", "saint", "she", "some",
+            "such", "than", "that", "the", "their", "them", "then", "there", "these", "they",
+            "this", "those", "through", "under", "until", "very", "was", "were", "what", "when",
+            "where", "which", "while", "who", "whom", "whose", "will", "with", "would", "you");
+
+    private final List<SaintListDto> saints;
+    private final Map<UUID, Integer> ordinals;
+    private final int[][] neighbors;
+
+    /**
+     * @param documents saints whose text is indexed
+     * @param saints    summary views of the same saints, in the same order
+     */
+    public SimilarSaintIndex(List<SaintDto> documents, List<SaintListDto> saints) {
+        this.saints = saints;
+
+        Map<UUID, Integer> byId = new HashMap<>();
+        for (int i = 0; i < saints.size(); i++) {
+            if (saints.get(i).id() != null) {
+                byId.put(saints.get(i).id(), i);
+            }
+        }
+        this.ordinals = Map.copyOf(byId);
+        this.neighbors = computeNeighbors(vectors(documents), saints.size());
+    }
+
+    /**
+     * @param saintId saint to find neighbors of
+     * @param limit   maximum number of saints
+     * @return most similar saints first, or an empty list for unknown saints
+     */
+    public List<SaintListDto> similarTo(UUID saintId, int limit) {
+        Integer ordinal = ordinals.get(saintId);
+        if (ordinal == null) {
+            return List.of();
+        }
+        int[] nearest = neighbors[ordinal];
+        int count = Math.min(limit, nearest.length);
+        List<SaintListDto> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(saints.get(nearest[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Builds the normalized sparse TF-IDF vector of every document. Terms that occur
+     * in a single document, or in all of them, cannot tell documents apart and are left out.
+     */
+    private static SparseVector[] vectors(List<SaintDto> documents) {
+        int count = documents.size();
+        List<Map<String, Float>> frequencies = new ArrayList<>(count);
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (SaintDto document : documents) {
+            Map<String, Float> tf = new HashMap<>();
+            addWords(tf, document.biography(), 1f);
+            addWords(tf, document.patronage(), PATRONAGE_WEIGHT);
+            frequencies.add(tf);
+            tf.keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+        }
+
+        Map<String, Integer> termIds = new HashMap<>();
+        List<Float> idf = new ArrayList<>();
+        documentFrequency.forEach((term, df) -> {
+            if (df > 1 && df < count) {
+                termIds.put(term, termIds.size());
+                idf.add((float) Math.log((double) count / df));
+            }
+        });
+
+        SparseVector[] vectors = new SparseVector[count];
+        for (int i = 0; i < count; i++) {
+            int[] terms = frequencies.get(i).keySet().stream()
+                    .filter(termIds::containsKey)
+                    .mapToInt(termIds::get)
+                    .sorted()
+                    .toArray();
+            float[] weights = new float[terms.length];
+            Map<Integer, Float> tf = new HashMap<>();
+            frequencies.get(i).forEach((term, frequency) -> {
+                Integer id = termIds.get(term);
+                if (id != null) {
+                    tf.put(id, frequency);
+                }
+            });
+
+            double norm = 0;
+            for (int k = 0; k < terms.length; k++) {
+                weights[k] = (float) (1 + Math.log(tf.get(terms[k]))) * idf.get(terms[k]);
+                norm += weights[k] * weights[k];
+            }
+            float scale = norm > 0 ? (float) (1 / Math.sqrt(norm)) : 0f;
+            for (int k = 0; k < weights.length; k++) {
+                weights[k] *= scale;
+            }
+            vectors[i] = new SparseVector(terms, weights);
+        }
+        return vectors;
+    }
+
+    private static int[][] computeNeighbors(SparseVector[] vectors, int count) {
+        int termCount = 0;
+        for (SparseVector vector : vectors) {
+            for (int term : vector.terms()) {
+                termCount = Math.max(termCount, term + 1);
+            }
+        }
+
+        // Posting lists: documents and weights per term
+        int[] postingSizes = new int[termCount];
+        for (SparseVector vector : vectors) {
+            for (int term : vector.terms()) {
+                postingSizes[term]++;
+            }
+        }
+        int[][] postingDocs = new int[termCount][];
+        float[][] postingWeights = new float[termCount][];
+        for (int t = 0; t < termCount; t++) {
+            postingDocs[t] = new int[postingSizes[t]];
+            postingWeights[t] = new float[postingSizes[t]];
+        }
+        int[] filled = new int[termCount];
+        for (int doc = 0; doc < count; doc++) {
+            SparseVector vector = vectors[doc];
+            for (int k = 0; k < vector.terms().length; k++) {
+                int term = vector.terms()[k];
+                postingDocs[term][filled[term]] = doc;
+                postingWeights[term][filled[term]++] = vector.weights()[k];
+            }
+        }
+
+        int[][] result = new int[count][];
+        float[] scores = new float[count];
+        int[] touched = new int[count];
+        int[] best = new int[NEIGHBORS];
+        float[] bestScores = new float[NEIGHBORS];
+        for (int doc = 0; doc < count; doc++) {
+            int touchedCount = 0;
+            SparseVector vector = vectors[doc];
+            for (int k = 0; k < vector.terms().length; k++) {
+                int term = vector.terms()[k];
+                float weight = vector.weights()[k];
+                int[] docs = postingDocs[term];
+                float[] weights = postingWeights[term];
+                for (int p = 0; p < docs.length; p++) {
+                    int other = docs[p];
+                    if (other == doc) {
+                        continue;
+                    }
+                    if (scores[other] == 0f) {
+                        touched[touchedCount++] = other;
+                    }
+                    scores[other] += weight * weights[p];
+                }
+            }
+
+            int size = 0;
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                float score = scores[other];
+                scores[other] = 0f;
+                if (score <= 0f || (size == NEIGHBORS && !ranksBefore(score, other, bestScores[size - 1], best[size - 1]))) {
+                    continue;
+                }
+                int position = size == NEIGHBORS ? size - 1 : size++;
+                while (position > 0 && ranksBefore(score, other, bestScores[position - 1], best[position - 1])) {
+                    best[position] = best[position - 1];
+                    bestScores[position] = bestScores[position - 1];
+                    position--;
+                }
+                best[position] = other;
+                bestScores[position] = score;
+            }
+            result[doc] = Arrays.copyOf(best, size);
+        }
+        return result;
+    }
+
+    /**
+     * Higher scores first; equal scores keep name order.
+     */
+    private static boolean ranksBefore(float score, int ordinal, float otherScore, int otherOrdinal) {
+        return score > otherScore || (score == otherScore && ordinal < otherOrdinal);
+    }
+
+    private static void addWords(Map<String, Float> frequencies, String text, float weight) {
+        for (String word : TextNormalizer.fold(text).split(" ")) {
+            if (word.length() >= MIN_WORD_LENGTH && !STOP_WORDS.contains(word) && !Character.isDigit(word.charAt(0))) {
+                frequencies.merge(word, weight, Float::sum);
+            }
+        }
+    }
+
+    private record SparseVector(int[] terms, float[] weights) {
+    }
+}
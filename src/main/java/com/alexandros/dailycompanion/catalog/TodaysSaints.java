@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.alexandros.dailycompanion.dto.SaintDto;
+import com.alexandros.dailycompanion.dto.SaintListDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Today's saints, precomputed per UTC offset.
+ * <p>
+ * Each possible offset (in whole minutes, -18:00 to +18:00) has a slot holding the
+ * saints of the local date at that offset. A scheduler rolls the slots of all offsets
+ * in use over at every quarter hour, which is when any zone can reach midnight, so a
+ * lookup right after local midnight is a plain array read.
+ * <p>
+ * A slot is rebuilt on access if it belongs to another day or an older catalog
+ * version, so a late scheduler run or a catalog update never serves stale saints.
+ */
+@Component
+public class TodaysSaints {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodaysSaints.class);
+    private static final int MAX_OFFSET_MINUTES = 18 * 60;
+
+    private final SaintCatalog saintCatalog;
+    private final Clock clock;
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(2 * MAX_OFFSET_MINUTES + 1);
+
+    @Autowired
+    public TodaysSaints(SaintCatalog saintCatalog) {
+        this(saintCatalog, Clock.systemUTC());
+    }
+
+    TodaysSaints(SaintCatalog saintCatalog, Clock clock) {
+        this.saintCatalog = saintCatalog;
+        this.clock = clock;
+    }
+
+    /**
+     * @param zone client time zone
+     * @return saints whose feast day is today in the given zone
+     */
+    public List<SaintDto> getSaints(ZoneId zone) {
+        return entry(zone).saints();
+    }
+
+    /**
+     * @param zone client time zone
+     * @return summary view of the saints whose feast day is today in the given zone
+     */
+    public List<SaintListDto> getSaintList(ZoneId zone) {
+        return entry(zone).saintList();
+    }
+
+    /**
+     * Rolls over every offset currently used by a known time zone.
+     * Runs every 15 minutes, on the quarter hours at which local midnights fall.
+     */
+    @Scheduled(cron = "0 0/15 * * * *", zone = "UTC")
+    public void rollover() {
+        Instant now = clock.instant();
+        SaintCatalogSnapshot snapshot = saintCatalog.snapshot();
+        int refreshed = 0;
+        for (ZoneOffset offset : offsetsInUse(now)) {
+            if (refresh(offset, now, snapshot) != null) {
+                refreshed++;
+            }
+        }
+        if (refreshed > 0) {
+            logger.debug("Rolled over today's saints | offsets={}", refreshed);
+        }
+    }
+
+    private Entry entry(ZoneId zone) {
+        Instant now = clock.instant();
+        ZoneOffset offset = zone.getRules().getOffset(now);
+        SaintCatalogSnapshot snapshot = saintCatalog.snapshot();
+        Entry entry = entries.get(slot(offset));
+        if (entry != null
+                && entry.date().equals(LocalDate.ofInstant(now, offset))
+                && entry.version() == snapshot.getVersion()) {
+            return entry;
+        }
+        Entry refreshed = refresh(offset, now, snapshot);
+        return refreshed != null ? refreshed : entries.get(slot(offset));
+    }
+
+    /**
+     * Rebuilds the slot of an offset if it is out of date.
+     *
+     * @return the new entry, or {@code null} if the slot was already current
+     */
+    private Entry refresh(ZoneOffset offset, Instant now, SaintCatalogSnapshot snapshot) {
+        int slot = slot(offset);
+        LocalDate today = LocalDate.ofInstant(now, offset);
+        Entry current = entries.get(slot);
+        if (current != null && current.date().equals(today) && current.version() == snapshot.getVersion()) {
+            return null;
+        }
+
+        List<SaintDto> saints = snapshot.getSaintsCelebratedOn(today);
+        List<SaintListDto> saintList = saints.stream()
+                .map(snapshot::toListItem)
+                .toList();
+        Entry entry = new Entry(snapshot.getVersion(), today, saints, saintList);
+        entries.set(slot, entry);
+        return entry;
+    }
+
+    private static Set<ZoneOffset> offsetsInUse(Instant now) {
+        Set<ZoneOffset> offsets = new TreeSet<>();
+        offsets.add(ZoneOffset.UTC);
+        for (String zoneId : ZoneId.getAvailableZoneIds()) {
+            offsets.add(ZoneId.of(zoneId).getRules().getOffset(now));
+        }
+        return offsets;
+    }
+
+    private static int slot(ZoneOffset offset) {
+        return offset.getTotalSeconds() / 60 + MAX_OFFSET_MINUTES;
+    }
+
+    private record Entry(long version,
+                         LocalDate date,
+                         List<SaintDto> saints,
+                         List<SaintListDto> saintList) {
+    }
+}
@@ -19,6 +19,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -76,12 +77,12 @@ public class SecurityConfig {
                                         "/privacy-policy.html",
                                         "/terms-of-service.html",
                                         "/static/**",
-                                        "/images/**",
                                         "/css/**",
                                         "/js/**",
                                         "/webjars/**"
                                 ).permitAll()
                                 .requestMatchers("/api/v1/app/version").permitAll()
+                                .requestMatchers(HttpMethod.GET,"/api/v1/saint/bulk").hasAuthority("ROLE_ADMIN")
                                 .requestMatchers(HttpMethod.GET,"/api/v1/saint/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_USER")
                                 .requestMatchers(HttpMethod.GET,"/api/v1/saint/feast/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_USER")
                                 .requestMatchers(HttpMethod.GET,"/api/v1/saint/month/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_USER")
@@ -108,6 +109,19 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Excludes saint images from the security filter chain.
+     * <p>
+     * Images are public, immutable content; skipping the chain keeps image
+     * traffic from paying for authentication on every request.
+     *
+     * @return customizer ignoring {@code /images/**}
+     */
+    @Bean
+    public WebSecurityCustomizer imageSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers("/images/**");
+    }
+
     /**
      * Provides the authentication manager used by Spring Security.
      *
@@ -46,6 +46,8 @@ public class AdminController {
      * @param size    number of users per page (default: 10)
      * @param sortBy  field to sort by (default: email)
      * @param sortDir sort direction, either {@code asc} or {@code desc} (default: asc)
+     * @param cursor opaque keyset cursor; when present (even empty) the page is read by keyset
+     *               without a count query, and {@code page} is ignored
      * @return paginated response containing user list data
      */
     @GetMapping("/users")
@@ -53,7 +55,11 @@ public class AdminController {
                                                               @RequestParam(defaultValue = "0") int page,
                                                               @RequestParam(defaultValue = "10") int size,
                                                               @RequestParam(defaultValue = "email") String sortBy,
-                                                              @RequestParam(defaultValue = "asc") String sortDir) {
+                                                              @RequestParam(defaultValue = "asc") String sortDir,
+                                                              @RequestParam(required = false) String cursor) {
+        if(cursor != null) {
+            return ResponseEntity.ok(new PageResponse<>(adminService.getUsersForAdminAfter(query, cursor, size, sortBy, sortDir), size));
+        }
         Page<AdminUserListDto> users = adminService.getAllUsersForAdmin(query, page, size, sortBy, sortDir);
 
         PageResponse<AdminUserListDto> response = new PageResponse<>(
@@ -80,12 +80,18 @@ public class FeedbackController {
      * @param page zero-based page index (default: 0)
      * @param size number of feedback items per page (default: 10)
      * @param sort sort direction, either {@code asc} or {@code desc} (default: desc)
+     * @param cursor opaque keyset cursor; when present (even empty) the page is read by keyset
+     *               without a count query, and {@code page} is ignored
      * @return paginated response containing feedback entries
      */
     @GetMapping
     public ResponseEntity<PageResponse<FeedbackDto>> getAllFeedback(@RequestParam(defaultValue = "0") int page,
                                                                     @RequestParam(defaultValue = "10") int size,
-                                                                    @RequestParam(defaultValue = "desc") String sort) {
+                                                                    @RequestParam(defaultValue = "desc") String sort,
+                                                                    @RequestParam(required = false) String cursor) {
+        if(cursor != null) {
+            return ResponseEntity.ok(new PageResponse<>(feedbackService.getAllFeedbackAfter(cursor, size, sort), size));
+        }
         Page<FeedbackDto> feedback = feedbackService.getAllFeedback(page, size, sort);
 
         PageResponse<FeedbackDto> response = new PageResponse<>(
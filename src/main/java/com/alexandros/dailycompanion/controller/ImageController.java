@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.controller;
+
+import com.alexandros.dailycompanion.image.ImageResponseWriter;
+import com.alexandros.dailycompanion.image.SaintImageService;
+import com.alexandros.dailycompanion.image.ServedImage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * REST controller serving saint images.
+ * <p>
+ * Provides:
+ * <ul>
+ *     <li>The original image when no width is requested</li>
+ *     <li>A resized derivative for {@code ?w=}, rounded up to the nearest generated width</li>
+ *     <li>AVIF or WebP derivatives when the client accepts them and an encoder is available</li>
+ * </ul>
+ * Content-hashed file names are cached by clients as immutable for a year. Image
+ * requests bypass the security filter chain and rate limiting.
+ */
+@RestController
+@RequestMapping("/images")
+public class ImageController {
+
+    private final SaintImageService saintImageService;
+    private final ImageResponseWriter imageResponseWriter;
+
+    @Autowired
+    public ImageController(SaintImageService saintImageService, ImageResponseWriter imageResponseWriter) {
+        this.saintImageService = saintImageService;
+        this.imageResponseWriter = imageResponseWriter;
+    }
+
+    /**
+     * Returns a saint image, optionally resized and re-encoded.
+     * Supports {@code If-None-Match} and single byte {@code Range} requests.
+     *
+     * @param fileName content-hashed or plain image file name
+     * @param width    optional display width in pixels
+     * @param accept   client {@code Accept} header used to pick the format
+     * @param request  current request
+     * @param response response the image is written to
+     * @throws IOException if the image cannot be sent
+     */
+    @GetMapping("/{fileName:.+}")
+    public void getImage(@PathVariable String fileName,
+                         @RequestParam(name = "w", required = false) Integer width,
+                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        ServedImage image = saintImageService.getImage(fileName, width, accept);
+        imageResponseWriter.write(image, request, response);
+    }
+}
@@ -58,12 +58,18 @@ public class JournalEntryController {
      * @param page zero-based page index (default: 0)
      * @param size number of entries per page (default: 5)
      * @param sort sort direction, either {@code asc} or {@code desc} (default: desc)
+     * @param cursor opaque keyset cursor; when present (even empty) the page is read by keyset
+     *               without a count query, and {@code page} is ignored
      * @return paginated response containing journal entry summaries
      */
     @GetMapping
     public ResponseEntity<PageResponse<JournalEntryLiteDto>> getAllJournalEntries(@RequestParam(defaultValue = "0") int page,
                                                                               @RequestParam(defaultValue = "5") int size,
-                                                                              @RequestParam(defaultValue = "desc") String sort) {
+                                                                              @RequestParam(defaultValue = "desc") String sort,
+                                                                              @RequestParam(required = false) String cursor) {
+        if(cursor != null) {
+            return ResponseEntity.ok(new PageResponse<>(journalEntryService.getJournalEntriesForUserAfter(cursor, size, sort), size));
+        }
         Page<JournalEntryLiteDto> entries = journalEntryService.getAllJournalEntriesForUser(page, size, sort);
 
         PageResponse<JournalEntryLiteDto> response = new PageResponse<>(
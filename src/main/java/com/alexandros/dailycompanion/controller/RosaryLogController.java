@@ -7,11 +7,16 @@
 package com.alexandros.dailycompanion.controller;
 
 import com.alexandros.dailycompanion.dto.PageResponse;
+import com.alexandros.dailycompanion.dto.RosaryCalendarDto;
 import com.alexandros.dailycompanion.dto.RosaryLogDto;
+import com.alexandros.dailycompanion.dto.RosaryMonthDto;
+import com.alexandros.dailycompanion.dto.RosarySyncDto;
+import com.alexandros.dailycompanion.dto.RosarySyncRequest;
 import com.alexandros.dailycompanion.model.User;
 import com.alexandros.dailycompanion.service.RosaryLogService;
 import com.alexandros.dailycompanion.service.ServiceHelper;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -60,6 +66,26 @@ public class RosaryLogController {
         return ResponseEntity.ok(rosaryLog);
     }
 
+    /**
+     * Records Rosaries completed while the client was offline, on the days they were prayed.
+     *
+     * @param userId      user identifier
+     * @param syncRequest completed days in the client's calendar
+     * @param request     HTTP request used to extract client IP
+     * @return number of days received and newly completed, and the refreshed streak counters
+     * @throws AccessDeniedException if the caller is neither the user nor an admin
+     */
+    @PostMapping("/{userId}/sync")
+    public ResponseEntity<RosarySyncDto> syncCompletions(@PathVariable UUID userId,
+                                                         @Valid @RequestBody RosarySyncRequest syncRequest,
+                                                         HttpServletRequest request) throws AccessDeniedException {
+        String ipAddress = serviceHelper.getClientIp(request);
+        User user = serviceHelper.getAuthenticatedUser();
+        RosarySyncDto result = rosaryLogService.syncCompletions(userId, syncRequest.dates(), ipAddress);
+        logger.info("POST /rosary/{}/sync | user={} | ip={} | dates={}", userId, user.getId(), ipAddress, syncRequest.dates().size());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Checks whether the user has completed the Rosary today.
      *
@@ -79,13 +105,20 @@ public class RosaryLogController {
      * @param page   zero-based page index (default: 0)
      * @param size   page size (default: 20)
      * @param sort   sort direction ({@code asc} or {@code desc})
+     * @param cursor opaque keyset cursor; when present (even empty) the page is read by keyset
+     *               without a count query, and {@code page} is ignored
      * @return paginated rosary history
      */
     @GetMapping("/{userId}/history")
     public ResponseEntity<PageResponse<RosaryLogDto>> getHistory(@PathVariable UUID userId,
                                                                  @RequestParam(defaultValue = "0") int page,
                                                                  @RequestParam(defaultValue = "20") int size,
-                                                                 @RequestParam(defaultValue = "desc") String sort) {
+                                                                 @RequestParam(defaultValue = "desc") String sort,
+                                                                 @RequestParam(required = false) String cursor) {
+
+        if(cursor != null) {
+            return ResponseEntity.ok(new PageResponse<>(rosaryLogService.getHistoryAfter(userId, cursor, size, sort), size));
+        }
 
         Page<RosaryLogDto> logs = rosaryLogService.getHistory(userId, page, size, sort);
 
@@ -128,6 +161,36 @@ public class RosaryLogController {
         return ResponseEntity.ok(completedDates);
     }
 
+    /**
+     * Retrieves all days on which the user completed the Rosary as a compact bitset,
+     * one bit per day from the first completed day on.
+     *
+     * @param userId user identifier
+     * @return epoch-day origin, number of days and Base64-encoded bits
+     */
+    @GetMapping("/{userId}/calendar")
+    public ResponseEntity<RosaryCalendarDto> getCompletionCalendar(@PathVariable UUID userId) {
+        RosaryCalendarDto calendar = rosaryLogService.getCompletionCalendar(userId);
+        return ResponseEntity.ok(calendar);
+    }
+
+    /**
+     * Retrieves a per-month summary of Rosary completions, so a calendar can fetch only
+     * the months it shows.
+     *
+     * @param userId user identifier
+     * @param from   first month in {@code yyyy-MM} format
+     * @param to     last month in {@code yyyy-MM} format, inclusive
+     * @return one entry per month with a bitmask of completed days and their count
+     */
+    @GetMapping("/{userId}/calendar/months")
+    public ResponseEntity<List<RosaryMonthDto>> getMonthlyCalendar(@PathVariable UUID userId,
+                                                                   @RequestParam YearMonth from,
+                                                                   @RequestParam YearMonth to) {
+        List<RosaryMonthDto> calendar = rosaryLogService.getMonthlyCalendar(userId, from, to);
+        return ResponseEntity.ok(calendar);
+    }
+
     /**
      * Checks whether the Rosary was completed on a specific date.
      *
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.controller;
+
+import com.alexandros.dailycompanion.dto.SaintImportResultDto;
+import com.alexandros.dailycompanion.service.SaintBulkService;
+import com.alexandros.dailycompanion.service.ServiceHelper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * REST controller for bulk changes to the saint catalog.
+ * <p>
+ * Both endpoints use NDJSON ({@code application/x-ndjson}), one saint per line,
+ * and stream the data instead of holding it in memory:
+ * <ul>
+ *     <li>importing saints, matched by name</li>
+ *     <li>exporting the whole catalog in a format the import accepts</li>
+ * </ul>
+ * All endpoints under this controller are intended for admin-level access only.
+ */
+@RestController
+@RequestMapping("/api/v1/saint/bulk")
+public class SaintBulkController {
+
+    private final SaintBulkService saintBulkService;
+    private final ServiceHelper serviceHelper;
+
+    @Autowired
+    public SaintBulkController(SaintBulkService saintBulkService, ServiceHelper serviceHelper) {
+        this.saintBulkService = saintBulkService;
+        this.serviceHelper = serviceHelper;
+    }
+
+    /**
+     * Imports saints from an NDJSON body. Each line must match the saint creation
+     * request; invalid lines are skipped and reported.
+     *
+     * @param request HTTP request carrying the NDJSON body
+     * @return counts of inserted, updated and rejected saints
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<SaintImportResultDto> importSaints(HttpServletRequest request) throws IOException {
+        String ipAddress = serviceHelper.getClientIp(request);
+        SaintImportResultDto result = saintBulkService.importSaints(request.getInputStream(), ipAddress);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Exports all saints as NDJSON, ordered by name.
+     *
+     * @return streamed NDJSON file
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSaints() {
+        StreamingResponseBody body = saintBulkService::exportSaints;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"saints.ndjson\"")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
@@ -6,6 +6,7 @@
 
 package com.alexandros.dailycompanion.controller;
 
+import com.alexandros.dailycompanion.catalog.SerializedResponse;
 import com.alexandros.dailycompanion.dto.*;
 import com.alexandros.dailycompanion.service.SaintService;
 import com.alexandros.dailycompanion.service.ServiceHelper;
@@ -15,13 +16,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 import java.util.UUID;
 
 /**
@@ -30,7 +34,13 @@ import java.util.UUID;
  * Provides endpoints for:
  * <ul>
  *     <li>retrieving saints paginated</li>
- *     <li>retrieving feast-day information</li>
+ *     <li>full-text search over saint names, patronage and biographies</li>
+ *     <li>patronage lookup and autocomplete</li>
+ *     <li>retrieving several saints by id in one request</li>
+ *     <li>recommending saints similar to a saint</li>
+ *     <li>incremental catalog sync for offline clients</li>
+ *     <li>retrieving feast-day information, with today's saints and upcoming feasts in the client's time zone</li>
+ *     <li>retrieving the year-aware liturgical calendar of a month</li>
  *     <li>creating a new saint</li>
  *     <li>updating existing saint</li>
  *     <li>deleting existing saint</li>
@@ -56,12 +66,18 @@ public class SaintController {
      * @param query optional search query
      * @param page  zero-based page index
      * @param size  page size
+     * @param cursor opaque keyset cursor; when present (even empty) the page is read by keyset
+     *               without a count query, and {@code page} is ignored
      * @return paginated saint list
      */
     @GetMapping
     public ResponseEntity<PageResponse<SaintListDto>> getAllSaints(@RequestParam(required = false, defaultValue = "") String query,
                                                                    @RequestParam(defaultValue = "0") int page,
-                                                                   @RequestParam(defaultValue = "5") int size) {
+                                                                   @RequestParam(defaultValue = "5") int size,
+                                                                   @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return ResponseEntity.ok(new PageResponse<>(saintService.getSaintsListAfter(query, cursor, size), size));
+        }
         Page<SaintListDto> saintPage = saintService.getAllSaintsList(query, page, size);
 
         PageResponse<SaintListDto> response = new PageResponse<>(
@@ -76,63 +92,235 @@ public class SaintController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Searches saint names, patronage and biographies using PostgreSQL full-text search.
+     * <p>
+     * Matches are ranked with name hits above patronage hits above biography hits,
+     * and each carries a highlighted snippet.
+     *
+     * @param q    search terms (web search syntax, e.g. {@code "patron of travellers"})
+     * @param page zero-based page index
+     * @param size page size
+     * @return paginated, ranked search hits
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<SaintSearchDto>> searchSaints(@RequestParam String q,
+                                                                     @RequestParam(defaultValue = "0") int page,
+                                                                     @RequestParam(defaultValue = "10") int size) {
+        Page<SaintSearchDto> hits = saintService.searchSaints(q, page, size);
+
+        PageResponse<SaintSearchDto> response = new PageResponse<>(
+                hits.getContent(),
+                hits.getNumber(),
+                hits.getSize(),
+                hits.getTotalElements(),
+                hits.getTotalPages(),
+                hits.isLast()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retrieves saints who are patrons of the given terms.
+     *
+     * @param terms patronage terms, e.g. {@code travelers}
+     * @param match {@code all} to require every term (default), {@code any} to accept any
+     * @return matching saints in name order
+     */
+    @GetMapping("/patronage")
+    public ResponseEntity<List<SaintListDto>> getSaintsByPatronage(@RequestParam List<String> terms,
+                                                                   @RequestParam(defaultValue = "all") String match) {
+        List<SaintListDto> saints = saintService.getSaintsByPatronage(terms, !match.equalsIgnoreCase("any"));
+        return ResponseEntity.ok(saints);
+    }
+
+    /**
+     * Suggests patronage terms for autocomplete.
+     *
+     * @param prefix typed text
+     * @param limit  maximum number of suggestions (capped at 50)
+     * @return suggested patronage terms
+     */
+    @GetMapping("/patronage/suggest")
+    public ResponseEntity<List<String>> suggestPatronage(@RequestParam String prefix,
+                                                         @RequestParam(defaultValue = "10") int limit) {
+        List<String> suggestions = saintService.suggestPatronage(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
     /**
      * Retrieves full details for a specific saint.
      *
      * @param saintId saint identifier
+     * @param fields  optional comma-separated fields to return (default: all)
      * @return saint details
      */
     @GetMapping("/{saintId}")
-    public ResponseEntity<SaintDto> getSaint(@PathVariable UUID saintId) {
+    public ResponseEntity<?> getSaint(@PathVariable UUID saintId,
+                                      @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(saintService.getSaint(saintId, fields));
+        }
         SaintDto saint = saintService.getSaint(saintId);
         return ResponseEntity.ok(saint);
     }
 
     /**
-     * Retrieves saints whose feast day is today.
+     * Retrieves several saints by id in one request. Ids that match no saint are
+     * listed in {@code missing} instead of failing the request.
+     *
+     * @param ids saint identifiers, comma-separated or repeated, at most 100
+     * @return saints found in request order and the missing ids
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<SaintBatchDto> getSaints(@RequestParam List<String> ids) {
+        SaintBatchDto batch = saintService.getSaints(ids);
+        return ResponseEntity.ok(batch);
+    }
+
+    /**
+     * Retrieves the saints most similar to a saint by biography and patronage.
      *
+     * @param saintId saint identifier
+     * @param limit   number of saints (default: 5, at most 10)
+     * @return similar saints, most similar first
+     */
+    @GetMapping("/{saintId}/similar")
+    public ResponseEntity<List<SaintListDto>> getSimilarSaints(@PathVariable UUID saintId,
+                                                               @RequestParam(defaultValue = "5") int limit) {
+        List<SaintListDto> saints = saintService.getSimilarSaints(saintId, limit);
+        return ResponseEntity.ok(saints);
+    }
+
+    /**
+     * Retrieves the catalog changes since a client's last sync.
+     * <p>
+     * Clients start with {@code since=0}, store the returned revision and pass it on
+     * the next call; when nothing changed the response carries no saints.
+     *
+     * @param since last revision the client has applied (default: 0, full catalog)
+     * @return changed saints, deleted saint ids and the current revision
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<SaintChangesDto> getChanges(@RequestParam(defaultValue = "0") long since) {
+        SaintChangesDto changes = saintService.getChangesSince(since);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Retrieves saints whose feast day is today in the client's time zone.
+     *
+     * @param tz optional IANA time zone or UTC offset of the client (default: server zone)
      * @return list of today's saints (summary view)
      */
     @GetMapping("/today")
-    public ResponseEntity<List<SaintListDto>> getTodaysSaint() {
-        List<SaintListDto> saint = saintService.getTodaysSaintList();
+    public ResponseEntity<List<SaintListDto>> getTodaysSaint(@RequestParam(required = false) String tz) {
+        List<SaintListDto> saint = saintService.getTodaysSaintList(tz);
         return ResponseEntity.ok(saint);
     }
 
+    /**
+     * Retrieves saints whose feast day lies between two days, inclusive.
+     * <p>
+     * Covers a month ({@code 03-01} to {@code 03-31}), a week, or a window
+     * wrapping around New Year ({@code 12-28} to {@code 01-03}).
+     *
+     * @param from first feast day as {@code MM-dd}
+     * @param to   last feast day as {@code MM-dd}
+     * @return list of saints in calendar order (summary view)
+     */
+    @GetMapping("/feast/range")
+    public ResponseEntity<List<SaintListDto>> getSaintsBetween(@RequestParam String from,
+                                                               @RequestParam String to) {
+        List<SaintListDto> saints = saintService.getSaintsBetween(from, to);
+        return ResponseEntity.ok(saints);
+    }
+
+    /**
+     * Retrieves the next feast days, starting today in the client's time zone.
+     *
+     * @param limit number of feast days (default: 7, at most 60)
+     * @param tz    optional IANA time zone or UTC offset of the client (default: server zone)
+     * @return upcoming feast days with their saints
+     */
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<UpcomingFeastDto>> getUpcomingFeasts(@RequestParam(defaultValue = "7") int limit,
+                                                                    @RequestParam(required = false) String tz) {
+        List<UpcomingFeastDto> feasts = saintService.getUpcomingFeasts(limit, tz);
+        return ResponseEntity.ok(feasts);
+    }
+
     /**
      * Retrieves saints by feast code.
      *
      * @param feastCode feast identifier
+     * @param fields    optional comma-separated fields to return (default: all)
      * @return list of saints associated with the feast
      */
     @GetMapping("/feast/{feastCode}")
-    public ResponseEntity<List<SaintDto>> getSaintByFeastCode(@PathVariable String feastCode) {
+    public ResponseEntity<?> getSaintByFeastCode(@PathVariable String feastCode,
+                                                 @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(saintService.getAllSaintsByFeastCode(feastCode, fields));
+        }
         List<SaintDto> saints = saintService.getAllSaintsByFeastCode(feastCode);
         return ResponseEntity.ok(saints);
     }
 
     /**
      * Retrieves all feast days mapped to saint names.
+     * <p>
+     * The body is served pre-serialized (optionally gzip-encoded) and answers
+     * a matching {@code If-None-Match} with {@code 304 Not Modified}.
      *
+     * @param ifNoneMatch    ETag previously returned to the client
+     * @param acceptEncoding encodings accepted by the client
      * @return feast day mapping
      */
     @GetMapping("/feast")
-    public ResponseEntity<Map<String, List<String>>> getAllFeastDays() {
-        Map<String, List<String>> feastMap = saintService.getAllFeastDaysMapped();
-        return ResponseEntity.ok(feastMap);
+    public ResponseEntity<byte[]> getAllFeastDays(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SerializedResponse feastMap = saintService.getAllFeastDaysSerialized();
+        return cachedJson(feastMap, ifNoneMatch, acceptEncoding);
     }
 
     /**
      * Retrieves saints grouped by day for a given month.
+     * <p>
+     * Served the same way as {@link #getAllFeastDays(String, String)}.
      *
-     * @param year  calendar year
-     * @param month calendar month
+     * @param year           calendar year
+     * @param month          calendar month
+     * @param ifNoneMatch    ETag previously returned to the client
+     * @param acceptEncoding encodings accepted by the client
      * @return saints grouped by date
      */
     @GetMapping("/month/{year}/{month}")
-    public ResponseEntity<Map<String, List<String>>> getSaintsByMonth(@PathVariable int year, @PathVariable int month) {
-        Map<String, List<String>> saints = saintService.getSaintsByMonth(year, month);
-        return ResponseEntity.ok(saints);
+    public ResponseEntity<byte[]> getSaintsByMonth(@PathVariable int year,
+                                                   @PathVariable int month,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SerializedResponse saints = saintService.getSaintsByMonthSerialized(year, month);
+        return cachedJson(saints, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * Retrieves the liturgical calendar of a month.
+     * <p>
+     * Unlike {@link #getSaintsByMonth(int, int, String, String)}, the result depends on
+     * the year: every day carries its season, movable celebrations such as Easter or
+     * the named Sundays, and the saints whose feast falls on it.
+     *
+     * @param year  calendar year (1583-9999)
+     * @param month calendar month
+     * @return days of the month in date order
+     */
+    @GetMapping("/calendar/{year}/{month}")
+    public ResponseEntity<List<LiturgicalDayDto>> getLiturgicalMonth(@PathVariable int year,
+                                                                     @PathVariable int month) {
+        List<LiturgicalDayDto> days = saintService.getLiturgicalMonth(year, month);
+        return ResponseEntity.ok(days);
     }
 
     /**
@@ -183,4 +371,64 @@ public class SaintController {
         return ResponseEntity.noContent().build();
     }
 
+    private ResponseEntity<byte[]> cachedJson(SerializedResponse response, String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? response.gzipEtag() : response.etag();
+
+        if (response.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return builder.body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    /**
+     * Checks an {@code Accept-Encoding} header for gzip. An explicit {@code gzip} entry
+     * decides; otherwise a {@code *} entry does. Entries with {@code q=0} or a malformed
+     * q-value are refused.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return qValue(parts) > 0;
+            }
+            if (coding.equals("*")) {
+                wildcard = qValue(parts) > 0;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
 }
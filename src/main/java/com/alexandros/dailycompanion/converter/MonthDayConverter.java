@@ -8,42 +8,44 @@ package com.alexandros.dailycompanion.converter;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
+import java.time.LocalDate;
 import java.time.MonthDay;
-import java.time.format.DateTimeFormatter;
 
 /**
  * JPA attribute converter for {@link MonthDay}.
  * <p>
- * This converter persists {@link MonthDay} values as ISO-8601 compatible
- * strings in the format {@code --MM-dd} and converts them back when reading
- * from the database.
+ * This converter persists {@link MonthDay} values as the day of a leap year
+ * ({@code 1} for January 1, {@code 60} for February 29, {@code 366} for December 31)
+ * in a {@code smallint} column, and converts them back when reading from the database.
+ * The numbers sort like the calendar, so month, week and other date windows can be
+ * queried as index range scans.
  * <p>
  * It is automatically applied to all {@link MonthDay} entity attributes.
  */
 @Converter(autoApply = true)
-public class MonthDayConverter implements AttributeConverter<MonthDay, String> {
+public class MonthDayConverter implements AttributeConverter<MonthDay, Short> {
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("--MM-dd");
+    private static final int LEAP_YEAR = 2000;
 
     /**
      * Converts a {@link MonthDay} attribute to its database column representation.
      *
      * @param attribute the {@link MonthDay} value from the entity
-     * @return formatted string representation or {@code null} if the attribute is null
+     * @return day of a leap year or {@code null} if the attribute is null
      */
     @Override
-    public String convertToDatabaseColumn(MonthDay attribute) {
-        return attribute != null ? attribute.format(FORMATTER) : null;
+    public Short convertToDatabaseColumn(MonthDay attribute) {
+        return attribute != null ? (short) attribute.atYear(LEAP_YEAR).getDayOfYear() : null;
     }
 
     /**
      * Converts a database column value into a {@link MonthDay} entity attribute.
      *
-     * @param dbData the stored string representation
-     * @return parsed {@link MonthDay} or {@code null} if the database value is null
+     * @param dbData the stored day of a leap year
+     * @return corresponding {@link MonthDay} or {@code null} if the database value is null
      */
     @Override
-    public MonthDay convertToEntityAttribute(String dbData) {
-        return dbData != null ? MonthDay.parse(dbData, FORMATTER) : null;
+    public MonthDay convertToEntityAttribute(Short dbData) {
+        return dbData != null ? MonthDay.from(LocalDate.ofYearDay(LEAP_YEAR, dbData)) : null;
     }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorSlice<T>(List<T> content,
+                             String nextCursor) {
+
+    /**
+     * Builds a slice from rows fetched with a limit of {@code size + 1};
+     * the extra row only signals that another page exists.
+     *
+     * @param rows     fetched rows, at most {@code size + 1}
+     * @param size     requested page size, at least 1
+     * @param mapper   maps each row to its response type
+     * @param cursorOf encodes the cursor of the last row on the page
+     * @return slice with a {@code nextCursor}, or {@code null} if this is the last page
+     */
+    public static <R, T> CursorSlice<T> of(List<R> rows, int size, Function<R, T> mapper, Function<R, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorSlice<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+}
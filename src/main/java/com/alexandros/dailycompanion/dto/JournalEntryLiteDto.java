@@ -11,5 +11,6 @@ import java.util.UUID;
 
 public record JournalEntryLiteDto(UUID id,
                                   LocalDate createdAt,
+                                  LocalDate updatedAt,
                                   String title) {
 }
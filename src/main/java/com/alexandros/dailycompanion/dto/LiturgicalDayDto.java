@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import com.alexandros.dailycompanion.enums.LiturgicalSeason;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One day of the liturgical calendar.
+ *
+ * @param date         calendar date
+ * @param season       liturgical season the day belongs to
+ * @param celebrations movable celebrations and named Sundays of the day
+ * @param saints       names of the saints whose fixed feast falls on the day
+ */
+public record LiturgicalDayDto(LocalDate date,
+                               LiturgicalSeason season,
+                               List<String> celebrations,
+                               List<String> saints) {
+}
@@ -6,6 +6,8 @@
 
 package com.alexandros.dailycompanion.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public class PageResponse<T> {
@@ -15,6 +17,7 @@ public class PageResponse<T> {
     private long totalElements;
     private int totalPages;
     private boolean last;
+    private String nextCursor;
 
     public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages, boolean last) {
         this.content = content;
@@ -25,6 +28,18 @@ public class PageResponse<T> {
         this.last = last;
     }
 
+    /**
+     * Creates a cursor-mode page. No count query is run in this mode, so
+     * {@code totalElements} and {@code totalPages} are reported as {@code -1}.
+     *
+     * @param slice keyset page and the cursor of the next one
+     * @param size  requested page size
+     */
+    public PageResponse(CursorSlice<T> slice, int size) {
+        this(slice.content(), 0, size, -1, -1, slice.nextCursor() == null);
+        this.nextCursor = slice.nextCursor();
+    }
+
     public List<T> getContent() {
         return content;
     }
@@ -48,4 +63,9 @@ public class PageResponse<T> {
     public boolean isLast() {
         return last;
     }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+/**
+ * Rosary completions of a user as a bitset, one bit per day.
+ * <p>
+ * Bit {@code i} (bit {@code i % 8}, low bit first, of byte {@code i / 8}) is set if the
+ * rosary was completed on epoch day {@code originEpochDay + i}.
+ *
+ * @param originEpochDay epoch day of bit {@code 0}, the first completed day
+ * @param days           number of days covered, up to the last completed day
+ * @param bitmap         Base64-encoded bits; empty if nothing was completed
+ */
+public record RosaryCalendarDto(long originEpochDay,
+                                int days,
+                                String bitmap) {
+}
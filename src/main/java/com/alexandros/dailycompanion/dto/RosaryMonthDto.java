@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.YearMonth;
+
+/**
+ * Rosary completions of a user in one month.
+ *
+ * @param month     month summarized, as {@code yyyy-MM}
+ * @param days      bitmask of completed days; bit {@code d - 1} is set if day {@code d} was completed
+ * @param completed number of completed days
+ */
+public record RosaryMonthDto(@JsonFormat(pattern = "yyyy-MM") YearMonth month,
+                             int days,
+                             int completed) {
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Rosary counters of a user.
+ *
+ * @param currentStreak     consecutive days ending at the last completion
+ * @param longestStreak     longest run of consecutive days
+ * @param lastCompletedDate date of the last completion, or {@code null} if none
+ * @param totalCompleted    number of completed rosaries
+ */
+public record RosaryStatsDto(int currentStreak,
+                             int longestStreak,
+                             LocalDate lastCompletedDate,
+                             int totalCompleted) {
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+public interface RosaryStreakProjection {
+    int getCurrentStreak();
+
+    int getLongestStreak();
+
+    Integer getLastCompletedEpochDay();
+
+    int getTotalCompleted();
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+/**
+ * Outcome of syncing offline rosary completions.
+ *
+ * @param received       number of distinct days received
+ * @param newlyCompleted number of days that were not completed before
+ * @param stats          streak counters after the sync
+ */
+public record RosarySyncDto(int received,
+                            int newlyCompleted,
+                            RosaryStatsDto stats) {
+}
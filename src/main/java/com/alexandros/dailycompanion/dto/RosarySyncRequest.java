@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Rosary completions recorded by a client while offline.
+ *
+ * @param dates days on which the rosary was completed, in the client's calendar; the
+ *              service limits how many can be sent at once
+ */
+public record RosarySyncRequest(@NotNull List<@NotNull LocalDate> dates) {
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of looking up several saints at once.
+ *
+ * @param saints  saints found, in the order their ids were requested
+ * @param missing requested ids that match no saint
+ */
+public record SaintBatchDto(List<SaintDto> saints,
+                            List<UUID> missing) {
+}
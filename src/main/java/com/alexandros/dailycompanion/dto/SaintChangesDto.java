@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Changes to the saint catalog since a client's last sync.
+ *
+ * @param revision revision the client is up to date with after applying this response
+ * @param full     {@code true} if {@code saints} is the complete catalog and the client
+ *                 should replace its copy instead of merging
+ * @param saints   saints created or updated since the requested revision
+ * @param deleted  ids of saints deleted since the requested revision
+ */
+public record SaintChangesDto(long revision,
+                              boolean full,
+                              List<SaintDto> saints,
+                              List<UUID> deleted) {
+}
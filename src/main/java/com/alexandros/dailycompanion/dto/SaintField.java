@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Fields of {@link SaintDto} that a client can select with the {@code fields} request parameter.
+ * <p>
+ * A projection only copies the selected fields into the response, so large text fields
+ * such as the biography are neither copied nor serialized unless they were asked for.
+ */
+public enum SaintField {
+    ID("id", SaintDto::id),
+    NAME("name", SaintDto::name),
+    BIRTH_YEAR("birthYear", SaintDto::birthYear),
+    DEATH_YEAR("deathYear", SaintDto::deathYear),
+    FEAST_DAY("feastDay", SaintDto::feastDay),
+    BIOGRAPHY("biography", SaintDto::biography),
+    PATRONAGE("patronage", SaintDto::patronage),
+    CANONIZATION_YEAR("canonizationYear", SaintDto::canonizationYear),
+    IMAGE_URL("imageUrl", SaintDto::imageUrl),
+    IMAGE_SOURCE("imageSource", SaintDto::imageSource),
+    IMAGE_AUTHOR("imageAuthor", SaintDto::imageAuthor),
+    IMAGE_LICENCE("imageLicence", SaintDto::imageLicence);
+
+    private static final Map<String, SaintField> BY_NAME = new HashMap<>();
+
+    static {
+        for (SaintField field : values()) {
+            BY_NAME.put(field.jsonName, field);
+        }
+    }
+
+    private final String jsonName;
+    private final Function<SaintDto, Object> accessor;
+
+    SaintField(String jsonName, Function<SaintDto, Object> accessor) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma-separated field list, e.g. {@code id,name,feastDay}.
+     *
+     * @param fields requested field names as they appear in the JSON response
+     * @return selected fields in declaration order
+     * @throws IllegalArgumentException if the list is empty or names an unknown field
+     */
+    public static Set<SaintField> parse(String fields) {
+        EnumSet<SaintField> selected = EnumSet.noneOf(SaintField.class);
+        if (fields != null) {
+            for (String name : fields.split(",")) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                SaintField field = BY_NAME.get(name.trim());
+                if (field == null) {
+                    throw new IllegalArgumentException("Unknown saint field: " + name.trim());
+                }
+                selected.add(field);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one saint field must be selected");
+        }
+        return selected;
+    }
+
+    /**
+     * Copies the selected fields of a saint into an ordered map.
+     *
+     * @param saint  saint to project
+     * @param fields selected fields
+     * @return field name to value, in declaration order (values may be {@code null})
+     */
+    public static Map<String, Object> project(SaintDto saint, Set<SaintField> fields) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (SaintField field : fields) {
+            projected.put(field.jsonName, field.accessor.apply(saint));
+        }
+        return projected;
+    }
+}
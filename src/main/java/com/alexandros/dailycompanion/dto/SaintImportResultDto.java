@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk saint import.
+ *
+ * @param inserted number of new saints
+ * @param updated  number of existing saints that changed
+ * @param rejected number of lines that could not be imported
+ * @param errors   reasons for the first rejected lines
+ */
+public record SaintImportResultDto(int inserted,
+                                   int updated,
+                                   int rejected,
+                                   List<LineError> errors) {
+
+    /**
+     * @param line    one-based line number in the uploaded file
+     * @param message why the line was rejected
+     */
+    public record LineError(long line, String message) {
+    }
+}
@@ -9,8 +9,24 @@ package com.alexandros.dailycompanion.dto;
 import java.time.MonthDay;
 import java.util.UUID;
 
+/**
+ * Summary of a saint for list views.
+ * <p>
+ * The image fields describe the original image, so clients can reserve its space and
+ * paint a blurred preview before the thumbnail arrives. They are {@code null} for
+ * external or unreadable images.
+ *
+ * @param imageBlurHash BlurHash of the image
+ * @param imageColor    average color of the image as {@code #rrggbb}
+ * @param imageWidth    intrinsic width of the image in pixels
+ * @param imageHeight   intrinsic height of the image in pixels
+ */
 public record SaintListDto(UUID id,
                            String name,
                            MonthDay feastDay,
-                           String imageUrl) {
+                           String imageUrl,
+                           String imageBlurHash,
+                           String imageColor,
+                           Integer imageWidth,
+                           Integer imageHeight) {
 }
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+public record SaintSearchDto(SaintListDto saint,
+                             String snippet,
+                             double rank) {
+}
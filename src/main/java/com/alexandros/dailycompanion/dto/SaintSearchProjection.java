@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import java.util.UUID;
+
+public interface SaintSearchProjection {
+    UUID getId();
+
+    String getName();
+
+    Short getFeastDay();
+
+    String getImageUrl();
+
+    String getImageBlurHash();
+
+    String getImageColor();
+
+    Integer getImageWidth();
+
+    Integer getImageHeight();
+
+    String getSnippet();
+
+    Double getRank();
+}
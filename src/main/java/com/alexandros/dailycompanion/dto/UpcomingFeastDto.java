@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A day on which at least one saint is celebrated.
+ *
+ * @param date   calendar date of the feast
+ * @param saints saints celebrated on that date (summary view)
+ */
+public record UpcomingFeastDto(LocalDate date,
+                               List<SaintListDto> saints) {
+}
@@ -15,4 +15,6 @@ public enum AuditAction {
     UPDATE_USER_NAME,
     DELETE_USER,
     MARK_ROSARY_COMPLETE,
+    BULK_IMPORT_SAINTS,
+    SYNC_ROSARY_COMPLETIONS,
 }
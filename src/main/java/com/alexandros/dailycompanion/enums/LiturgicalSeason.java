@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.enums;
+
+public enum LiturgicalSeason {
+    ADVENT,
+    CHRISTMAS,
+    ORDINARY_TIME,
+    LENT,
+    PASCHAL_TRIDUUM,
+    EASTER
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk store of the original saint images under content-hashed names.
+ * <p>
+ * Every image in {@code static/images} is copied once into the local image cache as
+ * {@code <name>.<hash>.<ext>}, where the hash is derived from the file contents. A hashed
+ * name therefore never changes meaning and can be cached by clients forever, while
+ * serving from plain files allows zero-copy transfer.
+ * <p>
+ * The store is loaded on first access and is immutable afterwards.
+ */
+@Component
+public class HashedImageStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedImageStore.class);
+    private static final String ORIGINALS_LOCATION = "classpath:static/images/*";
+    private static final String URL_PREFIX = "/images/";
+    private static final Pattern PLAIN_NAME = Pattern.compile("([A-Za-z0-9_-]+)\\.((?i)jpe?g|png)");
+    private static final Pattern HASHED_NAME = Pattern.compile("([A-Za-z0-9_-]+)\\.([0-9a-f]{16})\\.((?i)jpe?g|png)");
+    private static final int HASH_BYTES = 8;
+
+    private final Path cacheDir;
+    private volatile Images images;
+
+    @Autowired
+    public HashedImageStore(@Value("${app.images.cache-dir:${java.io.tmpdir}/daily-companion-images}") String cacheDir) {
+        this.cacheDir = Paths.get(cacheDir);
+    }
+
+    public Path getCacheDir() {
+        return cacheDir;
+    }
+
+    /**
+     * Looks up an original image by its hashed or plain file name.
+     *
+     * @param fileName e.g. {@code saint_agatha.0f3a9c2e71d45b88.jpg} or {@code saint_agatha.jpg}
+     * @return stored image, or empty if unknown
+     */
+    public Optional<StoredImage> find(String fileName) {
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        Images current = load();
+        StoredImage image = current.byHashedName.get(fileName);
+        if (image == null) {
+            image = current.byPlainName.get(toPlainName(fileName));
+        }
+        return Optional.ofNullable(image);
+    }
+
+    /**
+     * Looks up an original image by a locally served URL.
+     *
+     * @param imageUrl e.g. {@code /images/saint_agatha.0f3a9c2e71d45b88.jpg}
+     * @return stored image, or empty for external URLs and unknown images
+     */
+    public Optional<StoredImage> findByUrl(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return Optional.empty();
+        }
+        return find(imageUrl.substring(URL_PREFIX.length()));
+    }
+
+    /**
+     * @return all stored originals
+     */
+    public Collection<StoredImage> all() {
+        return load().byHashedName.values();
+    }
+
+    /**
+     * Rewrites a locally served image URL to the current content-hashed name.
+     * <p>
+     * Plain URLs and URLs carrying an outdated hash are both mapped to the current
+     * hash. External URLs and unknown images are returned unchanged.
+     *
+     * @param imageUrl stored image URL
+     * @return content-hashed URL, e.g. {@code /images/saint_agatha.0f3a9c2e71d45b88.jpg}
+     */
+    public String hashedUrl(String imageUrl) {
+        return findByUrl(imageUrl)
+                .map(image -> URL_PREFIX + image.hashedName())
+                .orElse(imageUrl);
+    }
+
+    private Images load() {
+        Images current = images;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (images == null) {
+                images = copyOriginals();
+            }
+            return images;
+        }
+    }
+
+    private Images copyOriginals() {
+        Map<String, StoredImage> byHashedName = new HashMap<>();
+        Map<String, StoredImage> byPlainName = new HashMap<>();
+        Path originalsDir = cacheDir.resolve("originals");
+
+        try {
+            Files.createDirectories(originalsDir);
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(ORIGINALS_LOCATION);
+            for (Resource resource : resources) {
+                String plainName = resource.getFilename();
+                if (plainName == null || !PLAIN_NAME.matcher(plainName).matches()) {
+                    continue;
+                }
+                StoredImage image = store(resource, plainName, originalsDir);
+                byHashedName.put(image.hashedName(), image);
+                byPlainName.put(plainName, image);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare saint images", e);
+        }
+
+        logger.info("Image store ready | images={} | dir={}", byHashedName.size(), originalsDir);
+        return new Images(Map.copyOf(byHashedName), Map.copyOf(byPlainName));
+    }
+
+    private static StoredImage store(Resource resource, String plainName, Path originalsDir) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(originalsDir, "upload", ".tmp");
+        try (InputStream in = new DigestInputStream(resource.getInputStream(), digest);
+             OutputStream out = Files.newOutputStream(temp)) {
+            in.transferTo(out);
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest(), 0, HASH_BYTES);
+        int dot = plainName.lastIndexOf('.');
+        String hashedName = plainName.substring(0, dot) + "." + hash + plainName.substring(dot);
+        Path target = originalsDir.resolve(hashedName);
+        if (Files.exists(target)) {
+            Files.delete(temp);
+        } else {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return new StoredImage(plainName, hashedName, hash, target, mediaType(plainName));
+    }
+
+    private static String toPlainName(String fileName) {
+        Matcher matcher = HASHED_NAME.matcher(fileName);
+        return matcher.matches() ? matcher.group(1) + "." + matcher.group(3) : fileName;
+    }
+
+    private static String mediaType(String fileName) {
+        return fileName.toLowerCase().endsWith(".png") ? MediaType.IMAGE_PNG_VALUE : MediaType.IMAGE_JPEG_VALUE;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * An original image copied into the store.
+     *
+     * @param plainName  file name as shipped, e.g. {@code saint_agatha.jpg}
+     * @param hashedName content-hashed file name
+     * @param hash       hex content hash
+     * @param path       location of the stored copy
+     * @param mediaType  media type of the image
+     */
+    public record StoredImage(String plainName,
+                              String hashedName,
+                              String hash,
+                              Path path,
+                              String mediaType) {
+    }
+
+    private record Images(Map<String, StoredImage> byHashedName,
+                          Map<String, StoredImage> byPlainName) {
+    }
+}
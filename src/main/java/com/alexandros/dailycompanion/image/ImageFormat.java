@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Output formats for image derivatives, in order of preference.
+ * <p>
+ * The JDK only ships a JPEG encoder. AVIF and WebP derivatives are produced
+ * when a matching ImageIO writer plugin is on the classpath.
+ */
+public enum ImageFormat {
+    AVIF("avif", "avif", "image/avif"),
+    WEBP("webp", "webp", "image/webp"),
+    JPEG("jpeg", "jpg", "image/jpeg");
+
+    private final String writerName;
+    private final String extension;
+    private final String mediaType;
+
+    ImageFormat(String writerName, String extension, String mediaType) {
+        this.writerName = writerName;
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getWriterName() {
+        return writerName;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return {@code true} if an ImageIO writer for this format is installed
+     */
+    public boolean isEncodable() {
+        return ImageIO.getImageWritersByFormatName(writerName).hasNext();
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+/**
+ * Data a client needs to lay out and preview an image before downloading it.
+ *
+ * @param blurHash BlurHash of the image (4x3 components)
+ * @param color    average color as {@code #rrggbb}
+ * @param width    intrinsic width in pixels
+ * @param height   intrinsic height in pixels
+ */
+public record ImagePlaceholder(String blurHash,
+                               String color,
+                               int width,
+                               int height) {
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+import com.alexandros.dailycompanion.image.HashedImageStore.StoredImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes {@link ImagePlaceholder}s of the stored original images.
+ * <p>
+ * Only the image header is needed for the dimensions, and the pixels are decoded with
+ * source subsampling, so even a large JPEG is read at roughly {@value #SAMPLE_WIDTH}
+ * pixels wide. Results are kept per content hash, since a hashed image never changes.
+ */
+@Component
+public class ImagePlaceholderGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePlaceholderGenerator.class);
+    private static final int SAMPLE_WIDTH = 64;
+    private static final int ENCODE_WIDTH = 32;
+    private static final int COMPONENTS_X = 4;
+    private static final int COMPONENTS_Y = 3;
+
+    private final HashedImageStore imageStore;
+    private final Map<String, ImagePlaceholder> placeholders = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImagePlaceholderGenerator(HashedImageStore imageStore) {
+        this.imageStore = imageStore;
+    }
+
+    /**
+     * @param imageUrl stored image URL
+     * @return placeholder of the image, or empty for external, unknown or unreadable images
+     */
+    public Optional<ImagePlaceholder> generate(String imageUrl) {
+        Optional<StoredImage> image = imageStore.findByUrl(imageUrl);
+        if (image.isEmpty()) {
+            return Optional.empty();
+        }
+        StoredImage original = image.get();
+        ImagePlaceholder placeholder = placeholders.get(original.hash());
+        if (placeholder == null) {
+            try {
+                placeholder = compute(original);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Failed to compute placeholder of {}: {}", original.plainName(), e.getMessage());
+                return Optional.empty();
+            }
+            placeholders.put(original.hash(), placeholder);
+        }
+        return Optional.of(placeholder);
+    }
+
+    static ImagePlaceholder placeholderOf(BufferedImage image, int width, int height) {
+        String blurHash = BlurHash.encode(downscale(image, ENCODE_WIDTH), COMPONENTS_X, COMPONENTS_Y);
+        return new ImagePlaceholder(blurHash, BlurHash.averageColor(blurHash), width, height);
+    }
+
+    private static ImagePlaceholder compute(StoredImage original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.path().toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IllegalStateException("Unreadable image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / SAMPLE_WIDTH);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return placeholderOf(reader.read(0, param), width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage downscale(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, Math.round(source.getHeight() * (width / (float) source.getWidth())));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+/**
+ * Fixed-width derivative sizes generated for every saint image.
+ * <p>
+ * Requested widths are rounded up to the nearest variant, so clients can ask
+ * for the width they display and still hit a cached file.
+ */
+public enum ImageVariant {
+    THUMBNAIL(160),
+    MEDIUM(480);
+
+    private static final String LOCAL_PREFIX = "/images/";
+
+    private final int width;
+
+    ImageVariant(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Points a locally served image URL at this variant. External URLs are returned unchanged.
+     *
+     * @param imageUrl stored image URL, e.g. {@code /images/saint_francis.jpg}
+     * @return URL of this variant, e.g. {@code /images/saint_francis.jpg?w=160}
+     */
+    public String urlFor(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(LOCAL_PREFIX) || imageUrl.contains("?")) {
+            return imageUrl;
+        }
+        return imageUrl + "?w=" + width;
+    }
+
+    /**
+     * Picks the smallest variant at least as wide as the requested width.
+     *
+     * @param requestedWidth width requested by the client
+     * @return matching variant, or {@code null} if the original should be served
+     */
+    public static ImageVariant forWidth(int requestedWidth) {
+        if (requestedWidth < 1) {
+            throw new IllegalArgumentException("Image width must be positive");
+        }
+        for (ImageVariant variant : values()) {
+            if (requestedWidth <= variant.width) {
+                return variant;
+            }
+        }
+        return null;
+    }
+}
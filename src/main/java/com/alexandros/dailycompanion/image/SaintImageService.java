@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+import com.alexandros.dailycompanion.image.HashedImageStore.StoredImage;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves saint images and their resized derivatives.
+ * <p>
+ * Originals come from the {@link HashedImageStore}. Derivatives are generated once per
+ * original content hash, {@link ImageVariant} and {@link ImageFormat}, written next to the
+ * stored originals and reused across requests and restarts. Requests by content-hashed
+ * name are immutable; requests by plain name resolve to the current content.
+ */
+@Service
+public class SaintImageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SaintImageService.class);
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final HashedImageStore imageStore;
+    private final List<ImageFormat> encodableFormats;
+    private final Map<Path, CompletableFuture<Path>> generations = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SaintImageService(HashedImageStore imageStore) {
+        this.imageStore = imageStore;
+        this.encodableFormats = Arrays.stream(ImageFormat.values())
+                .filter(ImageFormat::isEncodable)
+                .toList();
+        logger.info("Image derivative formats={}", encodableFormats);
+    }
+
+    /**
+     * Resolves the image file to send for a request.
+     *
+     * @param fileName hashed or plain image file name under {@code /images}
+     * @param width    requested display width, or {@code null} for the original
+     * @param accept   value of the {@code Accept} header, may be {@code null}
+     * @return original or derivative image file with its media type and ETag
+     * @throws EntityNotFoundException if no such image exists
+     */
+    public ServedImage getImage(String fileName, Integer width, String accept) {
+        StoredImage original = imageStore.find(fileName)
+                .orElseThrow(() -> new EntityNotFoundException("Image not found"));
+        boolean immutable = fileName.equals(original.hashedName());
+
+        ImageVariant variant = width == null ? null : ImageVariant.forWidth(width);
+        if (variant == null) {
+            return new ServedImage(original.path(), original.mediaType(), "\"" + original.hash() + "\"", immutable, false);
+        }
+
+        ImageFormat format = negotiate(accept);
+        Path derivative = getOrCreateDerivative(original, variant, format);
+        String etag = "\"" + original.hash() + "-" + variant.getWidth() + "-" + format.getExtension() + "\"";
+        return new ServedImage(derivative, format.getMediaType(), etag, immutable, true);
+    }
+
+    /**
+     * Generates every missing derivative of every original image.
+     * Existing files in the cache are left untouched.
+     */
+    public void generateAll() {
+        int generated = 0;
+        for (StoredImage original : imageStore.all()) {
+            for (ImageVariant variant : ImageVariant.values()) {
+                for (ImageFormat format : encodableFormats) {
+                    try {
+                        getOrCreateDerivative(original, variant, format);
+                        generated++;
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to generate {} {} of {}: {}", variant, format, original.plainName(), e.getMessage());
+                    }
+                }
+            }
+        }
+        logger.info("Image derivatives ready | count={}", generated);
+    }
+
+    /**
+     * Picks the most compact format the client explicitly accepts. Wildcards are
+     * ignored so that clients which never asked for AVIF or WebP keep getting JPEG.
+     */
+    ImageFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return ImageFormat.JPEG;
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return ImageFormat.JPEG;
+        }
+
+        for (ImageFormat format : encodableFormats) {
+            MediaType type = MediaType.parseMediaType(format.getMediaType());
+            boolean acceptable = accepted.stream()
+                    .anyMatch(a -> !a.isWildcardSubtype() && a.getQualityValue() > 0 && a.includes(type));
+            if (acceptable) {
+                return format;
+            }
+        }
+        return ImageFormat.JPEG;
+    }
+
+    private Path getOrCreateDerivative(StoredImage original, ImageVariant variant, ImageFormat format) {
+        String hashedName = original.hashedName();
+        String baseName = hashedName.substring(0, hashedName.lastIndexOf('.'));
+        Path target = imageStore.getCacheDir()
+                .resolve(String.valueOf(variant.getWidth()))
+                .resolve(baseName + "." + format.getExtension());
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        // One caller generates; concurrent callers for the same file wait for its result
+        CompletableFuture<Path> generation = new CompletableFuture<>();
+        CompletableFuture<Path> running = generations.putIfAbsent(target, generation);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            generation.complete(generate(original, variant, format, target, baseName));
+        } catch (Throwable e) {
+            generation.completeExceptionally(e);
+        } finally {
+            generations.remove(target, generation);
+        }
+        return await(generation);
+    }
+
+    /**
+     * Writes a derivative unless it already exists. A caller that checked for the file
+     * just before a previous generation finished gets here after it, so the check is
+     * repeated. The temporary file is removed if writing or moving it fails.
+     */
+    private Path generate(StoredImage original, ImageVariant variant, ImageFormat format, Path target, String baseName) {
+        if (Files.exists(target)) {
+            return target;
+        }
+        try {
+            BufferedImage source;
+            try (InputStream in = Files.newInputStream(original.path())) {
+                source = ImageIO.read(in);
+            }
+            if (source == null) {
+                throw new IllegalStateException("Unreadable image: " + original.plainName());
+            }
+
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), baseName, ".tmp");
+            try {
+                write(resize(source, variant.getWidth()), format, temp);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                // Otherwise a source that always fails leaves a new orphan on every request
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException cleanup) {
+                    e.addSuppressed(cleanup);
+                }
+                throw e;
+            }
+            logger.debug("Generated image derivative {}", target);
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path await(CompletableFuture<Path> generation) {
+        try {
+            return generation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, Math.round(source.getHeight() * (width / (float) source.getWidth())));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static void write(BufferedImage image, ImageFormat format, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format.getWriterName()).next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes().length > 0) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
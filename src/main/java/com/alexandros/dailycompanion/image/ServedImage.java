@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+import java.nio.file.Path;
+
+/**
+ * An image file resolved for a request.
+ *
+ * @param file       file to send
+ * @param mediaType  media type of the file
+ * @param etag       quoted strong ETag derived from the content hash
+ * @param immutable  {@code true} if requested by content-hashed name
+ * @param negotiated {@code true} if the format was chosen from the {@code Accept} header
+ */
+public record ServedImage(Path file,
+                          String mediaType,
+                          String etag,
+                          boolean immutable,
+                          boolean negotiated) {
+}
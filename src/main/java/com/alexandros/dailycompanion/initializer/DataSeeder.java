@@ -6,78 +6,222 @@
 
 package com.alexandros.dailycompanion.initializer;
 
+import com.alexandros.dailycompanion.catalog.PatronageParser;
 import com.alexandros.dailycompanion.dto.SaintDto;
+import com.alexandros.dailycompanion.image.HashedImageStore;
 import com.alexandros.dailycompanion.model.Saint;
+import com.alexandros.dailycompanion.repository.SaintBatchRepository;
 import com.alexandros.dailycompanion.repository.SaintRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.MonthDayDeserializer;
-import com.fasterxml.jackson.core.type.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.*;
 
 /**
  * Application data initializer responsible for seeding static reference data.
  * <p>
- * This component populates the database with predefined saints data
- * from a bundled JSON resource on application startup if the database is empty.
+ * This component keeps the {@code saints} table in sync with the bundled
+ * {@code data/saints.json} on application startup:
+ * <ul>
+ *     <li>the file is streamed saint by saint instead of being read into memory</li>
+ *     <li>saints are matched by name; new saints are inserted and changed saints
+ *     updated in JDBC batches, unchanged saints are left alone</li>
+ *     <li>the SHA-256 of the applied file is recorded in {@code seed_state}, so an
+ *     unchanged file is skipped without parsing it</li>
+ * </ul>
+ * Saints that exist only in the database (e.g. created by an admin) are never removed.
  */
 @Component
 public class DataSeeder {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
+    private static final String SAINTS_RESOURCE = "data/saints.json";
+    private static final int BATCH_SIZE = 100;
+
     private final SaintRepository saintRepository;
+    private final HashedImageStore hashedImageStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final SaintBatchRepository saintBatchRepository;
+    private final ObjectMapper objectMapper;
 
-    public DataSeeder(SaintRepository saintRepository) {
+    public DataSeeder(SaintRepository saintRepository, HashedImageStore hashedImageStore, JdbcTemplate jdbcTemplate, SaintBatchRepository saintBatchRepository) {
         this.saintRepository = saintRepository;
+        this.hashedImageStore = hashedImageStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.saintBatchRepository = saintBatchRepository;
+
+        this.objectMapper = new ObjectMapper();
+        JavaTimeModule module = new JavaTimeModule();
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("--MM-dd");
+        module.addDeserializer(java.time.MonthDay.class, new MonthDayDeserializer(formatter));
+        this.objectMapper.registerModule(module);
     }
 
     /**
-     * Seeds saint records into the database if no records currently exist.
+     * Inserts new and updates changed saints from {@code data/saints.json}.
      * <p>
-     * Data is loaded from {@code data/saints.json} and converted into {@link Saint} entities.
-     * The operation is transactional to ensure atomic persistence.
+     * Does nothing if the file's content hash matches the last applied one.
+     * The whole sync runs in one transaction, so a failed sync leaves both the
+     * saints and the recorded hash untouched.
      *
      * @throws RuntimeException if data loading or persistence fails
      */
-    public void seedSaintsIfEmpty() {
-        if(saintRepository.count() > 0) {
-            return;
-        }
+    @Transactional
+    public void syncSaints() {
+        ensureSeedStateTable();
+        ClassPathResource resource = new ClassPathResource(SAINTS_RESOURCE);
 
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JavaTimeModule module = new JavaTimeModule();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("--MM-dd");
-            module.addDeserializer(java.time.MonthDay.class, new MonthDayDeserializer(formatter));
-            objectMapper.registerModule(module);
-
-            InputStream inputStream = new ClassPathResource("data/saints.json").getInputStream();
-
-            List<SaintDto> saintDtos = objectMapper.readValue(inputStream, new TypeReference<>() {});
-
-            List<Saint> saints = saintDtos.stream().map(saintDto -> {
-                Saint saint = new Saint();
-                saint.setName(saintDto.name());
-                saint.setBirthYear(saintDto.birthYear());
-                saint.setDeathYear(saintDto.deathYear());
-                saint.setFeastDay(saintDto.feastDay());
-                saint.setBiography(saintDto.biography());
-                saint.setPatronage(saintDto.patronage());
-                saint.setCanonizationYear(saintDto.canonizationYear());
-                saint.setImageUrl(saintDto.imageUrl());
-                saint.setImageSource(saintDto.imageSource());
-                saint.setImageAuthor(saintDto.imageAuthor());
-                saint.setImageLicence(saintDto.imageLicence());
-                return saint;
-            }).toList();
-
-            saintRepository.saveAll(saints);
-        } catch (Exception e) {
+            String contentHash = sha256(resource);
+            List<String> applied = jdbcTemplate.queryForList(
+                    "SELECT content_hash FROM seed_state WHERE resource = ?", String.class, SAINTS_RESOURCE);
+            if(applied.contains(contentHash)) {
+                logger.info("Saint seed data unchanged, skipping sync | hash={}", contentHash);
+                return;
+            }
+
+            Map<String, SaintDto> existing = saintBatchRepository.findAllByName();
+            List<SaintDto> inserts = new ArrayList<>(BATCH_SIZE);
+            List<SaintDto> updates = new ArrayList<>(BATCH_SIZE);
+            int inserted = 0;
+            int updated = 0;
+
+            try (InputStream inputStream = resource.getInputStream();
+                 JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+                if(parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalStateException(SAINTS_RESOURCE + " must contain a JSON array");
+                }
+
+                while(parser.nextToken() == JsonToken.START_OBJECT) {
+                    SaintDto incoming = objectMapper.readValue(parser, SaintDto.class);
+                    SaintDto current = existing.get(incoming.name());
+                    if(current == null) {
+                        inserts.add(withId(incoming, UUID.randomUUID()));
+                        existing.put(incoming.name(), inserts.get(inserts.size() - 1));
+                    } else {
+                        SaintDto candidate = withId(incoming, current.id());
+                        if(!candidate.equals(current)) {
+                            updates.add(candidate);
+                        }
+                    }
+
+                    if(inserts.size() == BATCH_SIZE) {
+                        inserted += saintBatchRepository.insert(inserts);
+                    }
+                    if(updates.size() == BATCH_SIZE) {
+                        inserted += saintBatchRepository.insert(inserts);
+                        updated += saintBatchRepository.update(updates);
+                    }
+                }
+            }
+            inserted += saintBatchRepository.insert(inserts);
+            updated += saintBatchRepository.update(updates);
+
+            jdbcTemplate.update("""
+                    INSERT INTO seed_state (resource, content_hash, applied_at)
+                    VALUES (?, ?, ?)
+                    ON CONFLICT (resource) DO UPDATE
+                    SET content_hash = EXCLUDED.content_hash, applied_at = EXCLUDED.applied_at
+                    """, SAINTS_RESOURCE, contentHash, Timestamp.from(Instant.now()));
+
+            logger.info("Synced saint seed data | inserted={} | updated={} | hash={}", inserted, updated, contentHash);
+        } catch (IOException e) {
             throw new RuntimeException("Failed to seed saints", e);
         }
     }
+
+    private void ensureSeedStateTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS seed_state (
+                    resource VARCHAR(255) PRIMARY KEY,
+                    content_hash VARCHAR(64) NOT NULL,
+                    applied_at TIMESTAMP NOT NULL
+                )
+                """);
+    }
+
+    private SaintDto withId(SaintDto saint, UUID id) {
+        return new SaintDto(id, saint.name(), saint.birthYear(), saint.deathYear(), saint.feastDay(),
+                saint.biography(), saint.patronage(), saint.canonizationYear(),
+                hashedImageStore.hashedUrl(saint.imageUrl()),
+                saint.imageSource(), saint.imageAuthor(), saint.imageLicence());
+    }
+
+    private static String sha256(ClassPathResource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Populates the {@code saint_patronages} join table for saints that were
+     * stored before patronage terms existed.
+     * <p>
+     * Saints that already have terms are left untouched, so this is a no-op
+     * after the first run.
+     */
+    public void backfillPatronageTerms() {
+        List<Saint> missing = saintRepository.findAllWithPatronageTerms()
+                .stream()
+                .filter(saint -> saint.getPatronageTerms().isEmpty()
+                        && saint.getPatronage() != null
+                        && !saint.getPatronage().isBlank())
+                .toList();
+
+        if(missing.isEmpty()) {
+            return;
+        }
+
+        missing.forEach(saint -> saint.setPatronageTerms(PatronageParser.parse(saint.getPatronage())));
+        saintRepository.saveAll(missing);
+    }
+
+    /**
+     * Points every locally served saint image at its current content-hashed file name.
+     * <p>
+     * Covers saints stored with plain image URLs as well as saints whose image
+     * file has changed since their URL was hashed. Unchanged saints are not saved;
+     * changed saints lose their image placeholder until it is recomputed.
+     */
+    public void rewriteImageUrls() {
+        List<Saint> changed = new ArrayList<>();
+        for(Saint saint : saintRepository.findAll()) {
+            String hashedUrl = hashedImageStore.hashedUrl(saint.getImageUrl());
+            if(!Objects.equals(hashedUrl, saint.getImageUrl())) {
+                saint.setImageUrl(hashedUrl);
+                // Marks the placeholder for recomputation
+                saint.setImageBlurHash(null);
+                changed.add(saint);
+            }
+        }
+
+        if(changed.isEmpty()) {
+            return;
+        }
+        saintRepository.saveAll(changed);
+    }
 }
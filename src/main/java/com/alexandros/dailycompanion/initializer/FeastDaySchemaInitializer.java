@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.initializer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Schema initializer for the numeric feast day column.
+ * <p>
+ * Feast days used to be stored as {@code --MM-dd} strings. Hibernate's schema update
+ * does not change column types, so this component converts an existing text column
+ * in place to the day of a leap year (see
+ * {@link com.alexandros.dailycompanion.converter.MonthDayConverter}) and adds
+ * {@code idx_saints_feast_day} for range queries. Both steps are idempotent.
+ */
+@Component
+public class FeastDaySchemaInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeastDaySchemaInitializer.class);
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeastDaySchemaInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Converts a text {@code saints.feast_day} column to {@code smallint} and creates its index.
+     */
+    public void migrateFeastDayColumn() {
+        List<String> type = jdbcTemplate.queryForList("""
+                SELECT data_type
+                FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = 'saints' AND column_name = 'feast_day'
+                """, String.class);
+
+        if(type.contains("character varying") || type.contains("text")) {
+            jdbcTemplate.execute("""
+                    ALTER TABLE saints ALTER COLUMN feast_day TYPE smallint
+                    USING EXTRACT(DOY FROM to_date('2000-' || substr(feast_day, 3), 'YYYY-MM-DD'))::smallint
+                    """);
+            logger.info("Converted saints.feast_day to day of year");
+        }
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_saints_feast_day ON saints (feast_day)");
+    }
+}
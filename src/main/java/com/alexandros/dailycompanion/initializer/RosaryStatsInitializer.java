@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.initializer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills {@code rosary_stats} for users whose rosary history predates the table.
+ * <p>
+ * Streaks are computed in one set-based statement: consecutive completed dates of a
+ * user share the same {@code date - row_number} value, so grouping by it yields one
+ * row per run. Users that already have a stats row are left alone, so the backfill is
+ * a no-op once every user is covered.
+ */
+@Component
+public class RosaryStatsInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosaryStatsInitializer.class);
+    private final JdbcTemplate jdbcTemplate;
+
+    public RosaryStatsInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the stats row of every user with completed rosaries but no stats row.
+     */
+    public void backfillStats() {
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO rosary_stats (user_id, current_streak, longest_streak, last_completed_date, total_completed)
+                SELECT runs.user_id,
+                       (ARRAY_AGG(runs.length ORDER BY runs.last_date DESC))[1],
+                       MAX(runs.length),
+                       MAX(runs.last_date),
+                       SUM(runs.length)
+                FROM (
+                    SELECT days.user_id, COUNT(*) AS length, MAX(days.date) AS last_date
+                    FROM (
+                        SELECT r.user_id, r.date,
+                               r.date - CAST(ROW_NUMBER() OVER (PARTITION BY r.user_id ORDER BY r.date) AS integer) AS run
+                        FROM rosary_logs r
+                        WHERE r.completed = true
+                        AND NOT EXISTS (SELECT 1 FROM rosary_stats s WHERE s.user_id = r.user_id)
+                    ) days
+                    GROUP BY days.user_id, days.run
+                ) runs
+                GROUP BY runs.user_id
+                ON CONFLICT (user_id) DO NOTHING
+                """);
+        if (inserted > 0) {
+            logger.info("Backfilled rosary stats | users={}", inserted);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.initializer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schema initializer for the saint catalog revision used by client sync.
+ * <p>
+ * Revisions are stamped by triggers so that every write path (JPA, the JDBC
+ * seeder, manual SQL) is covered. This component adds idempotently:
+ * <ul>
+ *     <li>{@code saint_revision_seq}, the catalog-wide revision counter</li>
+ *     <li>{@code saints.revision} and an index on it, set on every insert and update</li>
+ *     <li>{@code saint_tombstones}, filled with the deleted saint's id on every delete</li>
+ * </ul>
+ * The trigger function takes a transaction-scoped advisory lock before drawing a
+ * revision, so revisions become visible in the order they were drawn and a client
+ * that synced up to revision {@code n} can never miss a change numbered below {@code n}.
+ */
+@Component
+public class SaintRevisionSchemaInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SaintRevisionSchemaInitializer.class);
+    private static final long REVISION_LOCK_KEY = 7_126_914_001L;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SaintRevisionSchemaInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates the revision sequence, column, tombstone table and triggers if they
+     * do not exist yet, and stamps saints stored before revisions existed.
+     */
+    public void ensureRevisionTracking() {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS saint_revision_seq");
+        jdbcTemplate.execute("ALTER TABLE saints ADD COLUMN IF NOT EXISTS revision bigint");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_saints_revision ON saints (revision)");
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS saint_tombstones (
+                    saint_id uuid PRIMARY KEY,
+                    revision bigint NOT NULL,
+                    deleted_at timestamp(6) with time zone NOT NULL
+                )
+                """);
+
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION saint_next_revision() RETURNS bigint AS $$
+                BEGIN
+                    PERFORM pg_advisory_xact_lock(%d);
+                    RETURN nextval('saint_revision_seq');
+                END
+                $$ LANGUAGE plpgsql
+                """.formatted(REVISION_LOCK_KEY));
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION saint_stamp_revision() RETURNS trigger AS $$
+                BEGIN
+                    NEW.revision := saint_next_revision();
+                    RETURN NEW;
+                END
+                $$ LANGUAGE plpgsql
+                """);
+        jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION saint_record_tombstone() RETURNS trigger AS $$
+                BEGIN
+                    INSERT INTO saint_tombstones (saint_id, revision, deleted_at)
+                    VALUES (OLD.id, saint_next_revision(), now())
+                    ON CONFLICT (saint_id) DO UPDATE
+                        SET revision = EXCLUDED.revision, deleted_at = EXCLUDED.deleted_at;
+                    RETURN OLD;
+                END
+                $$ LANGUAGE plpgsql
+                """);
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_saints_revision ON saints");
+        jdbcTemplate.execute("""
+                CREATE TRIGGER trg_saints_revision
+                BEFORE INSERT OR UPDATE ON saints
+                FOR EACH ROW EXECUTE FUNCTION saint_stamp_revision()
+                """);
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_saints_tombstone ON saints");
+        jdbcTemplate.execute("""
+                CREATE TRIGGER trg_saints_tombstone
+                AFTER DELETE ON saints
+                FOR EACH ROW EXECUTE FUNCTION saint_record_tombstone()
+                """);
+
+        // The update trigger assigns the revision
+        int stamped = jdbcTemplate.update("UPDATE saints SET revision = revision WHERE revision IS NULL");
+        logger.info("Saint revision tracking is in place | stamped={}", stamped);
+    }
+}
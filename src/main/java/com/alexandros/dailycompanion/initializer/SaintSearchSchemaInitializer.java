@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.initializer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schema initializer for PostgreSQL full-text search over saints.
+ * <p>
+ * Hibernate's schema update cannot express generated columns or GIN indexes,
+ * so this component adds them idempotently on application startup:
+ * <ul>
+ *     <li>{@code saints.search_vector}, a stored tsvector generated from
+ *     name (weight A), patronage (weight B) and biography (weight C)</li>
+ *     <li>{@code idx_saints_search_vector}, a GIN index on that column</li>
+ * </ul>
+ */
+@Component
+public class SaintSearchSchemaInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SaintSearchSchemaInitializer.class);
+    private final JdbcTemplate jdbcTemplate;
+
+    public SaintSearchSchemaInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates the generated search column and its GIN index if they do not exist yet.
+     */
+    public void ensureSearchIndex() {
+        jdbcTemplate.execute("""
+                ALTER TABLE saints ADD COLUMN IF NOT EXISTS search_vector tsvector
+                GENERATED ALWAYS AS (
+                    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+                    setweight(to_tsvector('english', coalesce(patronage, '')), 'B') ||
+                    setweight(to_tsvector('english', coalesce(biography, '')), 'C')
+                ) STORED
+                """);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_saints_search_vector ON saints USING GIN (search_vector)");
+        logger.info("Saint full-text search column and index are in place");
+    }
+}
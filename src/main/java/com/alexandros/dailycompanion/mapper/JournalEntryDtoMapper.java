@@ -39,6 +39,6 @@ public class JournalEntryDtoMapper {
     }
 
     public static Page<JournalEntryLiteDto> toJournalEntryLiteDto(Page<JournalEntry> entries) {
-        return entries.map(e -> new JournalEntryLiteDto(e.getId(), e.getCreatedAt(), e.getTitle()));
+        return entries.map(e -> new JournalEntryLiteDto(e.getId(), e.getCreatedAt(), e.getUpdatedAt(), e.getTitle()));
     }
 }
@@ -7,7 +7,9 @@
 package com.alexandros.dailycompanion.mapper;
 
 import com.alexandros.dailycompanion.dto.RosaryLogDto;
+import com.alexandros.dailycompanion.dto.RosaryStatsDto;
 import com.alexandros.dailycompanion.model.RosaryLog;
+import com.alexandros.dailycompanion.model.RosaryStats;
 
 import java.util.List;
 
@@ -27,4 +29,17 @@ public class RosaryLogDtoMapper {
     public static List<RosaryLogDto> toRosaryLogDto(List<RosaryLog> rosaryLogs) {
         return rosaryLogs.stream().map(RosaryLogDtoMapper::toRosaryDto).toList();
     }
+
+    public static RosaryStatsDto toRosaryStatsDto(RosaryStats rosaryStats) {
+        if(rosaryStats == null) {
+            return new RosaryStatsDto(0, 0, null, 0);
+        }
+
+        return new RosaryStatsDto(
+                rosaryStats.getCurrentStreak(),
+                rosaryStats.getLongestStreak(),
+                rosaryStats.getLastCompletedDate(),
+                rosaryStats.getTotalCompleted()
+        );
+    }
 }
@@ -21,6 +21,8 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(name = "rosary_logs", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "date"})
+}, indexes = {
+        @Index(name = "idx_rosary_logs_user_completed_date", columnList = "user_id, completed, date")
 })
 @Entity
 public class RosaryLog {
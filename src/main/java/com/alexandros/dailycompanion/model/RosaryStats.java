@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Per-user rosary counters, kept up to date whenever a rosary is completed so that
+ * streaks can be read without scanning the user's history.
+ * <p>
+ * The current streak is the run of consecutive days ending at the last completion.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "rosary_stats")
+public class RosaryStats {
+    @Id
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "user_id", updatable = false, nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private int currentStreak;
+
+    @Column(nullable = false)
+    private int longestStreak;
+
+    private LocalDate lastCompletedDate;
+
+    @Column(nullable = false)
+    private int totalCompleted;
+
+    public RosaryStats(UUID userId) {
+        this.userId = userId;
+    }
+}
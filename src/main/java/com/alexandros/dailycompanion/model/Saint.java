@@ -13,6 +13,8 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.MonthDay;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -45,4 +47,18 @@ public class Saint {
     private String imageSource;
     @Column(columnDefinition = "TEXT")
     private String imageLicence;
+    @Column(length = 32)
+    private String imageBlurHash;
+    @Column(length = 7)
+    private String imageColor;
+    private Integer imageWidth;
+    private Integer imageHeight;
+    @ElementCollection
+    @CollectionTable(name = "saint_patronages",
+            joinColumns = @JoinColumn(name = "saint_id"),
+            indexes = @Index(name = "idx_saint_patronages_term", columnList = "term"))
+    @Column(name = "term", nullable = false)
+    private Set<String> patronageTerms = new HashSet<>();
+    @Column(insertable = false, updatable = false)
+    private Long revision;
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Record of a deleted saint, kept so that syncing clients learn about the deletion.
+ * Rows are written by a database trigger when a saint is deleted.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "saint_tombstones")
+public class SaintTombstone {
+    @Id
+    @JdbcTypeCode(SqlTypes.UUID)
+    @Column(name = "saint_id", updatable = false, nullable = false)
+    private UUID saintId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+}
@@ -9,16 +9,45 @@ package com.alexandros.dailycompanion.repository;
 import com.alexandros.dailycompanion.model.Feedback;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface FeedbackRepository extends JpaRepository<Feedback, UUID> {
 
     Page<Feedback> findAllByUserEmail(String email, Pageable pageable);
 
+    @Query("SELECT f FROM Feedback f")
+    List<Feedback> findFirstPage(Sort sort, Limit limit);
+
+    @Query("""
+            SELECT f
+            FROM Feedback f
+            WHERE f.submittedAt < :submittedAt
+            OR (f.submittedAt = :submittedAt AND f.id < :id)
+            ORDER BY f.submittedAt DESC, f.id DESC
+            """)
+    List<Feedback> findSubmittedBefore(@Param("submittedAt") LocalDateTime submittedAt,
+                                       @Param("id") UUID id,
+                                       Limit limit);
+
+    @Query("""
+            SELECT f
+            FROM Feedback f
+            WHERE f.submittedAt > :submittedAt
+            OR (f.submittedAt = :submittedAt AND f.id > :id)
+            ORDER BY f.submittedAt ASC, f.id ASC
+            """)
+    List<Feedback> findSubmittedAfter(@Param("submittedAt") LocalDateTime submittedAt,
+                                      @Param("id") UUID id,
+                                      Limit limit);
+
     @Query("SELECT COUNT(f) FROM Feedback f WHERE f.user.email = :email")
     int countByUserEmail(@Param("email") String email);
 }
@@ -10,6 +10,8 @@ import com.alexandros.dailycompanion.dto.JournalEntryLiteDto;
 import com.alexandros.dailycompanion.model.JournalEntry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,10 +23,44 @@ import java.util.UUID;
 
 @Repository
 public interface JournalEntryRepository extends JpaRepository<JournalEntry, UUID> {
-    @Query("SELECT new com.alexandros.dailycompanion.dto.JournalEntryLiteDto(j.id, j.createdAt, j.title) " +
+    @Query("SELECT new com.alexandros.dailycompanion.dto.JournalEntryLiteDto(j.id, j.createdAt, j.updatedAt, j.title) " +
             "FROM JournalEntry j WHERE j.user.id = :userId")
     Page<JournalEntryLiteDto> findAllLiteByUserId(@Param("userId") UUID userId, Pageable pageable);
 
+    @Query("SELECT new com.alexandros.dailycompanion.dto.JournalEntryLiteDto(j.id, j.createdAt, j.updatedAt, j.title) " +
+            "FROM JournalEntry j WHERE j.user.id = :userId")
+    List<JournalEntryLiteDto> findLiteByUserId(@Param("userId") UUID userId, Sort sort, Limit limit);
+
+    @Query("""
+            SELECT new com.alexandros.dailycompanion.dto.JournalEntryLiteDto(j.id, j.createdAt, j.updatedAt, j.title)
+            FROM JournalEntry j
+            WHERE j.user.id = :userId
+            AND (j.updatedAt < :updatedAt
+                OR (j.updatedAt = :updatedAt AND j.createdAt < :createdAt)
+                OR (j.updatedAt = :updatedAt AND j.createdAt = :createdAt AND j.id < :id))
+            ORDER BY j.updatedAt DESC, j.createdAt DESC, j.id DESC
+            """)
+    List<JournalEntryLiteDto> findLiteByUserIdBefore(@Param("userId") UUID userId,
+                                                     @Param("updatedAt") LocalDate updatedAt,
+                                                     @Param("createdAt") LocalDate createdAt,
+                                                     @Param("id") UUID id,
+                                                     Limit limit);
+
+    @Query("""
+            SELECT new com.alexandros.dailycompanion.dto.JournalEntryLiteDto(j.id, j.createdAt, j.updatedAt, j.title)
+            FROM JournalEntry j
+            WHERE j.user.id = :userId
+            AND (j.updatedAt > :updatedAt
+                OR (j.updatedAt = :updatedAt AND j.createdAt > :createdAt)
+                OR (j.updatedAt = :updatedAt AND j.createdAt = :createdAt AND j.id > :id))
+            ORDER BY j.updatedAt ASC, j.createdAt ASC, j.id ASC
+            """)
+    List<JournalEntryLiteDto> findLiteByUserIdAfter(@Param("userId") UUID userId,
+                                                    @Param("updatedAt") LocalDate updatedAt,
+                                                    @Param("createdAt") LocalDate createdAt,
+                                                    @Param("id") UUID id,
+                                                    Limit limit);
+
     List<JournalEntry> findAllByUserId(UUID id);
 
     List<JournalEntry> findEntriesByUserEmailAndCreatedAt(String email, LocalDate createdAt);
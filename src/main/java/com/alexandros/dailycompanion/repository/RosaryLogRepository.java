@@ -6,9 +6,12 @@
 
 package com.alexandros.dailycompanion.repository;
 
+import com.alexandros.dailycompanion.dto.RosaryStreakProjection;
 import com.alexandros.dailycompanion.model.RosaryLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,18 +30,84 @@ public interface RosaryLogRepository extends JpaRepository<RosaryLog, UUID> {
 
     Page<RosaryLog> findAllByUserIdAndCompletedTrue(UUID userId, Pageable pageable);
 
-    boolean existsByUserIdAndDate(UUID userId, LocalDate date);
+    List<RosaryLog> findByUserIdAndCompletedTrue(UUID userId, Sort sort, Limit limit);
 
-    void deleteAllByUserId(UUID id);
+    @Query("""
+            SELECT r
+            FROM RosaryLog r
+            WHERE r.user.id = :userId
+            AND r.completed = true
+            AND (r.date < :date OR (r.date = :date AND r.id < :id))
+            ORDER BY r.date DESC, r.id DESC
+            """)
+    List<RosaryLog> findCompletedBefore(@Param("userId") UUID userId,
+                                        @Param("date") LocalDate date,
+                                        @Param("id") UUID id,
+                                        Limit limit);
 
     @Query("""
             SELECT r
             FROM RosaryLog r
             WHERE r.user.id = :userId
             AND r.completed = true
-            ORDER BY r.date DESC
+            AND (r.date > :date OR (r.date = :date AND r.id > :id))
+            ORDER BY r.date ASC, r.id ASC
+            """)
+    List<RosaryLog> findCompletedAfter(@Param("userId") UUID userId,
+                                       @Param("date") LocalDate date,
+                                       @Param("id") UUID id,
+                                       Limit limit);
+
+    void deleteAllByUserId(UUID id);
+
+    @Query("""
+            SELECT r.date
+            FROM RosaryLog r
+            WHERE r.user.id = :userId
+            AND r.completed = true
+            ORDER BY r.date
             """)
-    List<RosaryLog> findCompletedLogsDesc(UUID userId);
+    List<LocalDate> findCompletedDates(@Param("userId") UUID userId);
+
+    /**
+     * Completed dates of a user within a range, read by a range scan of the
+     * {@code (user_id, completed, date)} index.
+     */
+    @Query("""
+            SELECT r.date
+            FROM RosaryLog r
+            WHERE r.user.id = :userId
+            AND r.completed = true
+            AND r.date BETWEEN :from AND :to
+            ORDER BY r.date
+            """)
+    List<LocalDate> findCompletedDatesBetween(@Param("userId") UUID userId,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
+    /**
+     * Computes the streaks of a user in the database. Consecutive completed dates share
+     * the same {@code date - row_number} value, so grouping by it yields one row per run.
+     * The user's completed dates are looked up through the {@code (user_id, completed, date)}
+     * index.
+     */
+    @Query(value = """
+            SELECT CAST(COALESCE((ARRAY_AGG(runs.length ORDER BY runs.last_date DESC))[1], 0) AS integer) AS currentStreak,
+                   CAST(COALESCE(MAX(runs.length), 0) AS integer) AS longestStreak,
+                   CAST(MAX(runs.last_date) - DATE '1970-01-01' AS integer) AS lastCompletedEpochDay,
+                   CAST(COALESCE(SUM(runs.length), 0) AS integer) AS totalCompleted
+            FROM (
+                SELECT COUNT(*) AS length, MAX(days.date) AS last_date
+                FROM (
+                    SELECT r.date, r.date - CAST(ROW_NUMBER() OVER (ORDER BY r.date) AS integer) AS run
+                    FROM rosary_logs r
+                    WHERE r.user_id = :userId
+                    AND r.completed = true
+                ) days
+                GROUP BY days.run
+            ) runs
+            """, nativeQuery = true)
+    RosaryStreakProjection computeStreaks(@Param("userId") UUID userId);
 
     @Query("SELECT COUNT(r) FROM RosaryLog r WHERE r.user.id = :userId AND r.completed = true")
     int countCompletedByUserId(@Param("userId") UUID userId);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC upsert of rosary logs.
+ * <p>
+ * Marking a day as completed is the busiest write of the application, so it is done in
+ * a single {@code INSERT ... ON CONFLICT ... RETURNING} statement instead of loading the
+ * user and the existing log through JPA. Concurrent requests for the same day meet in
+ * the {@code (user_id, date)} unique constraint instead of failing on it.
+ */
+@Repository
+public class RosaryLogUpsertRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RosaryLogUpsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts a completed log for the given day, or marks the existing one as completed.
+     * {@code alreadyCompleted} is read from the snapshot the statement started with; if
+     * a concurrent request inserts the row in the meantime, both callers may see
+     * {@code false}.
+     *
+     * @param userId user who prayed
+     * @param date   day of the log
+     * @return id of the log and whether it was completed before, or empty if the user does not exist
+     */
+    public Optional<Completion> markCompleted(UUID userId, LocalDate date) {
+        return jdbcTemplate.query("""
+                        WITH previous AS (
+                            SELECT completed
+                            FROM rosary_logs
+                            WHERE user_id = ?
+                            AND date = ?
+                        )
+                        INSERT INTO rosary_logs (id, user_id, date, completed)
+                        SELECT ?, u.id, ?, true
+                        FROM users u
+                        WHERE u.id = ?
+                        ON CONFLICT (user_id, date) DO UPDATE SET completed = true
+                        RETURNING rosary_logs.id, rosary_logs.date, COALESCE((SELECT completed FROM previous), false) AS already_completed
+                        """,
+                (rs, rowNum) -> toCompletion(rs),
+                userId, date, UUID.randomUUID(), date, userId).stream().findFirst();
+    }
+
+    /**
+     * Multi-row variant of {@link #markCompleted(UUID, LocalDate)}, written in one statement.
+     *
+     * @param userId user who prayed
+     * @param dates  distinct days to mark as completed
+     * @return one completion per day, or an empty list if the user does not exist
+     */
+    public List<Completion> markCompleted(UUID userId, Collection<LocalDate> dates) {
+        if(dates.isEmpty()) {
+            return List.of();
+        }
+        List<Object> params = new ArrayList<>(dates.size() * 2 + 2);
+        StringBuilder values = new StringBuilder();
+        for (LocalDate date : dates) {
+            values.append(values.isEmpty() ? "" : ", ").append("(?, ?)");
+            params.add(UUID.randomUUID());
+            params.add(date);
+        }
+        params.add(userId);
+        params.add(userId);
+
+        return jdbcTemplate.query("""
+                        WITH input (id, date) AS (
+                            VALUES %s
+                        ),
+                        previous AS (
+                            SELECT r.date
+                            FROM rosary_logs r
+                            JOIN input i ON i.date = r.date
+                            WHERE r.user_id = ?
+                            AND r.completed = true
+                        )
+                        INSERT INTO rosary_logs (id, user_id, date, completed)
+                        SELECT i.id, u.id, i.date, true
+                        FROM users u
+                        CROSS JOIN input i
+                        WHERE u.id = ?
+                        ON CONFLICT (user_id, date) DO UPDATE SET completed = true
+                        RETURNING rosary_logs.id, rosary_logs.date, rosary_logs.date IN (SELECT p.date FROM previous p) AS already_completed
+                        """.formatted(values),
+                (rs, rowNum) -> toCompletion(rs),
+                params.toArray());
+    }
+
+    private static Completion toCompletion(ResultSet rs) throws SQLException {
+        return new Completion(
+                rs.getObject("id", UUID.class),
+                rs.getObject("date", LocalDate.class),
+                rs.getBoolean("already_completed"));
+    }
+
+    /**
+     * @param id               id of the log
+     * @param date             day of the log
+     * @param alreadyCompleted whether the day was completed before the upsert
+     */
+    public record Completion(UUID id, LocalDate date, boolean alreadyCompleted) {
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.repository;
+
+import com.alexandros.dailycompanion.model.RosaryStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RosaryStatsRepository extends JpaRepository<RosaryStats, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RosaryStats s WHERE s.userId = :userId")
+    Optional<RosaryStats> findByIdForUpdate(@Param("userId") UUID userId);
+
+    /**
+     * Creates an empty stats row unless the user already has one, so that concurrent first
+     * completions lock the same row instead of racing to insert it.
+     *
+     * @return 1 if the row was created, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO rosary_stats (user_id, current_streak, longest_streak, last_completed_date, total_completed)
+        VALUES (:userId, 0, 0, NULL, 0)
+        ON CONFLICT (user_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfNotExists(@Param("userId") UUID userId);
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.repository;
+
+import com.alexandros.dailycompanion.catalog.PatronageParser;
+import com.alexandros.dailycompanion.converter.MonthDayConverter;
+import com.alexandros.dailycompanion.dto.SaintDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+
+/**
+ * JDBC batch writes of saints and their patronage terms.
+ * <p>
+ * Used for bulk changes (seeding, admin imports) where saving entities one by one
+ * through JPA would cost a round trip per row. Callers are responsible for the
+ * surrounding transaction and for refreshing the saint catalog afterwards.
+ */
+@Repository
+public class SaintBatchRepository {
+
+    private static final MonthDayConverter MONTH_DAY_CONVERTER = new MonthDayConverter();
+    private final JdbcTemplate jdbcTemplate;
+
+    public SaintBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Loads every saint keyed by name. For duplicate names the first row wins.
+     *
+     * @return saints by name
+     */
+    public Map<String, SaintDto> findAllByName() {
+        Map<String, SaintDto> existing = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT id, name, birth_year, death_year, feast_day, biography, patronage,
+                       canonization_year, image_url, image_source, image_author, image_licence
+                FROM saints
+                """, rs -> {
+            SaintDto saint = new SaintDto(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("name"),
+                    rs.getObject("birth_year", Integer.class),
+                    rs.getObject("death_year", Integer.class),
+                    MONTH_DAY_CONVERTER.convertToEntityAttribute(rs.getObject("feast_day", Short.class)),
+                    rs.getString("biography"),
+                    rs.getString("patronage"),
+                    rs.getObject("canonization_year", Integer.class),
+                    rs.getString("image_url"),
+                    rs.getString("image_source"),
+                    rs.getString("image_author"),
+                    rs.getString("image_licence"));
+            existing.putIfAbsent(saint.name(), saint);
+        });
+        return existing;
+    }
+
+    /**
+     * Inserts the given saints, which must carry their new ids, together with their
+     * patronage terms, and clears the list.
+     *
+     * @param saints saints to insert
+     * @return number of saints inserted
+     */
+    public int insert(List<SaintDto> saints) {
+        if(saints.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO saints (id, name, birth_year, death_year, feast_day, biography, patronage,
+                                    canonization_year, image_url, image_source, image_author, image_licence)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, saints, saints.size(), (ps, saint) -> {
+            ps.setObject(1, saint.id());
+            ps.setString(2, saint.name());
+            setSaintColumns(ps, saint, 3);
+        });
+        replacePatronageTerms(saints, false);
+
+        int count = saints.size();
+        saints.clear();
+        return count;
+    }
+
+    /**
+     * Updates all columns but the name of the given saints, replaces their patronage
+     * terms, and clears the list. Saints whose image URL changes lose their image
+     * placeholder until it is recomputed.
+     *
+     * @param saints saints to update, matched by id
+     * @return number of saints updated
+     */
+    public int update(List<SaintDto> saints) {
+        if(saints.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate("""
+                UPDATE saints
+                SET birth_year = ?, death_year = ?, feast_day = ?, biography = ?, patronage = ?,
+                    canonization_year = ?, image_url = ?, image_source = ?, image_author = ?, image_licence = ?,
+                    image_blur_hash = CASE WHEN image_url IS DISTINCT FROM ? THEN NULL ELSE image_blur_hash END
+                WHERE id = ?
+                """, saints, saints.size(), (ps, saint) -> {
+            setSaintColumns(ps, saint, 1);
+            ps.setString(11, saint.imageUrl());
+            ps.setObject(12, saint.id());
+        });
+        replacePatronageTerms(saints, true);
+
+        int count = saints.size();
+        saints.clear();
+        return count;
+    }
+
+    private static void setSaintColumns(PreparedStatement ps, SaintDto saint, int first) throws SQLException {
+        ps.setObject(first, saint.birthYear(), Types.INTEGER);
+        ps.setObject(first + 1, saint.deathYear(), Types.INTEGER);
+        ps.setObject(first + 2, MONTH_DAY_CONVERTER.convertToDatabaseColumn(saint.feastDay()), Types.SMALLINT);
+        ps.setString(first + 3, saint.biography());
+        ps.setString(first + 4, saint.patronage());
+        ps.setObject(first + 5, saint.canonizationYear(), Types.INTEGER);
+        ps.setString(first + 6, saint.imageUrl());
+        ps.setString(first + 7, saint.imageSource());
+        ps.setString(first + 8, saint.imageAuthor());
+        ps.setString(first + 9, saint.imageLicence());
+    }
+
+    private void replacePatronageTerms(List<SaintDto> saints, boolean deleteExisting) {
+        if(deleteExisting) {
+            jdbcTemplate.batchUpdate("DELETE FROM saint_patronages WHERE saint_id = ?", saints, saints.size(),
+                    (ps, saint) -> ps.setObject(1, saint.id()));
+        }
+
+        List<Object[]> terms = new ArrayList<>();
+        for(SaintDto saint : saints) {
+            for(String term : PatronageParser.parse(saint.patronage())) {
+                terms.add(new Object[]{saint.id(), term});
+            }
+        }
+        if(!terms.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO saint_patronages (saint_id, term) VALUES (?, ?)", terms);
+        }
+    }
+}
@@ -8,9 +8,8 @@ package com.alexandros.dailycompanion.repository;
 
 import com.alexandros.dailycompanion.dto.SaintDto;
 import com.alexandros.dailycompanion.dto.SaintListDto;
+import com.alexandros.dailycompanion.dto.SaintSearchProjection;
 import com.alexandros.dailycompanion.model.Saint;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,25 +22,77 @@ import java.util.UUID;
 
 @Repository
 public interface SaintRepository extends JpaRepository<Saint, UUID> {
-    Optional<Saint> findByFeastDay(MonthDay monthDay);
-
     Optional<Saint> findByName(String name);
 
-    Optional<Saint> findByPatronage(String patronage);
+    List<Saint> findByImageUrlStartingWithAndImageBlurHashIsNull(String prefix);
 
-    Page<SaintListDto> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    @Query("SELECT DISTINCT s FROM Saint s LEFT JOIN FETCH s.patronageTerms")
+    List<Saint> findAllWithPatronageTerms();
 
-    List<Saint> findAllByFeastDay(MonthDay monthDay);
+    @Query("""
+            SELECT new com.alexandros.dailycompanion.dto.SaintListDto(
+                s.id,
+                s.name,
+                s.feastDay,
+                s.imageUrl,
+                s.imageBlurHash,
+                s.imageColor,
+                s.imageWidth,
+                s.imageHeight
+            )
+            FROM Saint s
+            WHERE s.feastDay BETWEEN :from AND :to
+            ORDER BY s.feastDay, s.name
+    """)
+    List<SaintListDto> findListByFeastDayBetween(@Param("from") MonthDay from, @Param("to") MonthDay to);
 
     @Query("""
             SELECT new com.alexandros.dailycompanion.dto.SaintListDto(
                 s.id,
                 s.name,
                 s.feastDay,
-                s.imageUrl
+                s.imageUrl,
+                s.imageBlurHash,
+                s.imageColor,
+                s.imageWidth,
+                s.imageHeight
             )
             FROM Saint s
-            WHERE LOWER(s.name) LIKE LOWER(CONCAT('%',:query,'%'))
+            WHERE s.feastDay >= :from OR s.feastDay <= :to
+            ORDER BY CASE WHEN s.feastDay >= :from THEN 0 ELSE 1 END, s.feastDay, s.name
     """)
-    Page<SaintListDto> findAllList(@Param("query") String query, Pageable pageable);
+    List<SaintListDto> findListByFeastDayAcrossNewYear(@Param("from") MonthDay from, @Param("to") MonthDay to);
+
+    @Query(value = """
+            SELECT s.id AS id,
+                   s.name AS name,
+                   s.feast_day AS feastDay,
+                   s.image_url AS imageUrl,
+                   s.image_blur_hash AS imageBlurHash,
+                   s.image_color AS imageColor,
+                   s.image_width AS imageWidth,
+                   s.image_height AS imageHeight,
+                   CAST(hits.rank AS double precision) AS rank,
+                   ts_headline('english', concat_ws(' ', s.patronage, s.biography), hits.query,
+                               'MaxFragments=2, MinWords=8, MaxWords=20, StartSel=<b>, StopSel=</b>') AS snippet
+            FROM (
+                SELECT s.id AS id, ts_rank(s.search_vector, q) AS rank, q AS query
+                FROM saints s, websearch_to_tsquery('english', :query) q
+                WHERE s.search_vector @@ q
+                ORDER BY rank DESC, s.name
+                LIMIT :limit OFFSET :offset
+            ) hits
+            JOIN saints s ON s.id = hits.id
+            ORDER BY hits.rank DESC, s.name
+            """, nativeQuery = true)
+    List<SaintSearchProjection> searchFullText(@Param("query") String query,
+                                               @Param("limit") int limit,
+                                               @Param("offset") long offset);
+
+    @Query(value = """
+            SELECT COUNT(*)
+            FROM saints s
+            WHERE s.search_vector @@ websearch_to_tsquery('english', :query)
+            """, nativeQuery = true)
+    long countFullText(@Param("query") String query);
 }
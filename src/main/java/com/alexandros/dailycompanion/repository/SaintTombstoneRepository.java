@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.repository;
+
+import com.alexandros.dailycompanion.model.SaintTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface SaintTombstoneRepository extends JpaRepository<SaintTombstone, UUID> {
+}
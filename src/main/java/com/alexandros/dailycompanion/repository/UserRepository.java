@@ -11,6 +11,8 @@ import com.alexandros.dailycompanion.model.User;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -19,6 +21,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -54,4 +57,30 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT new com.alexandros.dailycompanion.dto.AdminUserListDto(u.id, u.email, u.role) " +
             "FROM User u WHERE LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))")
     Page<AdminUserListDto> searchUsersForAdmin(@Param("email") String email, Pageable pageable);
+
+    @Query("SELECT new com.alexandros.dailycompanion.dto.AdminUserListDto(u.id, u.email, u.role) " +
+            "FROM User u WHERE LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))")
+    List<AdminUserListDto> searchUsersForAdmin(@Param("email") String email, Sort sort, Limit limit);
+
+    @Query("""
+            SELECT new com.alexandros.dailycompanion.dto.AdminUserListDto(u.id, u.email, u.role)
+            FROM User u
+            WHERE LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))
+            AND u.email > :lastEmail
+            ORDER BY u.email ASC
+            """)
+    List<AdminUserListDto> searchUsersForAdminAfter(@Param("email") String email,
+                                                    @Param("lastEmail") String lastEmail,
+                                                    Limit limit);
+
+    @Query("""
+            SELECT new com.alexandros.dailycompanion.dto.AdminUserListDto(u.id, u.email, u.role)
+            FROM User u
+            WHERE LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%'))
+            AND u.email < :lastEmail
+            ORDER BY u.email DESC
+            """)
+    List<AdminUserListDto> searchUsersForAdminBefore(@Param("email") String email,
+                                                     @Param("lastEmail") String lastEmail,
+                                                     Limit limit);
 }
@@ -87,6 +87,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
 
         return path.startsWith("/api/v1/auth/")
-                || path.startsWith("/api/v1/firebase-auth/");
+                || path.startsWith("/api/v1/firebase-auth/")
+                || path.startsWith("/images/");
     }
 }
@@ -76,6 +76,12 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return "API_" + ip;
     }
 
+    // Images are served without consuming API tokens
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/images/");
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
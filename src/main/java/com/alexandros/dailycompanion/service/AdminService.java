@@ -11,6 +11,7 @@ import com.alexandros.dailycompanion.enums.Roles;
 import com.alexandros.dailycompanion.model.User;
 import com.alexandros.dailycompanion.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -53,6 +54,42 @@ public class AdminService {
         }
     }
 
+    /**
+     * Keyset variant of {@link #getAllUsersForAdmin(String, int, int, String, String)}.
+     * Only {@code email} is unique, so cursor mode is limited to sorting by email.
+     *
+     * @param query   optional email filter
+     * @param cursor  cursor of the previous page, or blank for the first page
+     * @param size    page size
+     * @param sortBy  must be {@code email}
+     * @param sortDir {@code asc} or {@code desc}
+     * @return page of users and the cursor of the next page
+     */
+    public CursorSlice<AdminUserListDto> getUsersForAdminAfter(String query, String cursor, int size, String sortBy, String sortDir) {
+        if(size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        if(!"email".equals(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination only supports sorting by email");
+        }
+        boolean ascending = !sortDir.equalsIgnoreCase("desc");
+        String filter = query == null ? "" : query.trim();
+        Limit limit = Limit.of(size + 1);
+
+        List<AdminUserListDto> users;
+        if(cursor == null || cursor.isBlank()) {
+            Sort sort = Sort.by(ascending ? Sort.Direction.ASC : Sort.Direction.DESC, "email");
+            users = userRepository.searchUsersForAdmin(filter, sort, limit);
+        } else {
+            String lastEmail = (String) CursorCodec.decode(cursor, String.class)[0];
+            users = ascending
+                    ? userRepository.searchUsersForAdminAfter(filter, lastEmail, limit)
+                    : userRepository.searchUsersForAdminBefore(filter, lastEmail, limit);
+        }
+
+        return CursorSlice.of(users, size, user -> user, user -> CursorCodec.encode(user.email()));
+    }
+
     public AdminUserOverviewDto getUserOverview(UUID userId, int feedbackPage, int feedbackSize, String feedbackSort) throws AccessDeniedException {
         User currentUser = serviceHelper.getAuthenticatedUser();
 
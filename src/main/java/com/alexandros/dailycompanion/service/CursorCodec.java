@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes opaque keyset pagination cursors.
+ * <p>
+ * A cursor holds the sort key values of the last row of a page (usually followed
+ * by its id) as a URL-safe Base64 string. Clients must treat it as opaque.
+ */
+public class CursorCodec {
+    private static final String SEPARATOR = "\u001F";
+
+    public static String encode(Object... keys) {
+        StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < keys.length; i++) {
+            if(i > 0) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into typed key values.
+     *
+     * @param cursor cursor previously returned by {@link #encode(Object...)}
+     * @param types  expected type of each key
+     * @return decoded keys in the same order as {@code types}
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Object[] decode(String cursor, Class<?>... types) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if(parts.length != types.length) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+
+            Object[] keys = new Object[types.length];
+            for(int i = 0; i < types.length; i++) {
+                keys[i] = parse(parts[i], types[i]);
+            }
+            return keys;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static Object parse(String value, Class<?> type) {
+        if(type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+        if(type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if(type == UUID.class) {
+            return UUID.fromString(value);
+        }
+        if(type == String.class) {
+            return value;
+        }
+        throw new IllegalArgumentException("Unsupported cursor key type: " + type.getSimpleName());
+    }
+}
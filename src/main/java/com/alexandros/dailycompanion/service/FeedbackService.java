@@ -6,6 +6,7 @@
 
 package com.alexandros.dailycompanion.service;
 
+import com.alexandros.dailycompanion.dto.CursorSlice;
 import com.alexandros.dailycompanion.dto.FeedbackDto;
 import com.alexandros.dailycompanion.dto.FeedbackRequest;
 import com.alexandros.dailycompanion.dto.FeedbackUpdateRequest;
@@ -17,6 +18,7 @@ import com.alexandros.dailycompanion.repository.FeedbackRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -78,6 +80,35 @@ public class FeedbackService {
         return feedbackPage.map(FeedbackDtoMapper::toFeedbackDto);
     }
 
+    /**
+     * Keyset variant of {@link #getAllFeedback(int, int, String)} ordered by {@code (submittedAt, id)}.
+     *
+     * @param cursor cursor of the previous page, or blank for the first page
+     * @param size   page size
+     * @param sort   {@code asc} or {@code desc} (default)
+     * @return page of feedback and the cursor of the next page
+     */
+    public CursorSlice<FeedbackDto> getAllFeedbackAfter(String cursor, int size, String sort) {
+        if(size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sort).orElse(Sort.Direction.DESC);
+        Limit limit = Limit.of(size + 1);
+
+        List<Feedback> feedbacks;
+        if(cursor == null || cursor.isBlank()) {
+            feedbacks = feedbackRepository.findFirstPage(Sort.by(direction, "submittedAt", "id"), limit);
+        } else {
+            Object[] keys = CursorCodec.decode(cursor, LocalDateTime.class, UUID.class);
+            feedbacks = direction.isAscending()
+                    ? feedbackRepository.findSubmittedAfter((LocalDateTime) keys[0], (UUID) keys[1], limit)
+                    : feedbackRepository.findSubmittedBefore((LocalDateTime) keys[0], (UUID) keys[1], limit);
+        }
+
+        return CursorSlice.of(feedbacks, size, FeedbackDtoMapper::toFeedbackDto,
+                feedback -> CursorCodec.encode(feedback.getSubmittedAt(), feedback.getId()));
+    }
+
     public FeedbackDto getSpecificFeedback(UUID id) {
         Feedback feedback = feedbackRepository.findById(id).orElseThrow(()
                 -> new IllegalArgumentException("Could not find feedback!"));
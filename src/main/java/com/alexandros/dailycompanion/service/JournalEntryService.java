@@ -6,6 +6,7 @@
 
 package com.alexandros.dailycompanion.service;
 
+import com.alexandros.dailycompanion.dto.CursorSlice;
 import com.alexandros.dailycompanion.dto.JournalEntryDto;
 import com.alexandros.dailycompanion.dto.JournalEntryLiteDto;
 import com.alexandros.dailycompanion.dto.JournalEntryRequest;
@@ -20,6 +21,7 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -60,6 +62,38 @@ public class JournalEntryService {
         return entries;
     }
 
+    /**
+     * Keyset variant of {@link #getAllJournalEntriesForUser(int, int, String)}.
+     * Entries are ordered by {@code (updatedAt, createdAt, id)} and no count query is run.
+     *
+     * @param cursor cursor of the previous page, or blank for the first page
+     * @param size   page size
+     * @param sort   {@code asc} or {@code desc} (default)
+     * @return page of entries and the cursor of the next page
+     */
+    public CursorSlice<JournalEntryLiteDto> getJournalEntriesForUserAfter(String cursor, int size, String sort) {
+        if(size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sort).orElse(Sort.Direction.DESC);
+        User user = serviceHelper.getAuthenticatedUser();
+        Limit limit = Limit.of(size + 1);
+
+        List<JournalEntryLiteDto> rows;
+        if(cursor == null || cursor.isBlank()) {
+            Sort sortBy = Sort.by(direction, "updatedAt", "createdAt", "id");
+            rows = journalEntryRepository.findLiteByUserId(user.getId(), sortBy, limit);
+        } else {
+            Object[] keys = CursorCodec.decode(cursor, LocalDate.class, LocalDate.class, UUID.class);
+            rows = direction.isAscending()
+                    ? journalEntryRepository.findLiteByUserIdAfter(user.getId(), (LocalDate) keys[0], (LocalDate) keys[1], (UUID) keys[2], limit)
+                    : journalEntryRepository.findLiteByUserIdBefore(user.getId(), (LocalDate) keys[0], (LocalDate) keys[1], (UUID) keys[2], limit);
+        }
+
+        return CursorSlice.of(rows, size, entry -> entry,
+                entry -> CursorCodec.encode(entry.updatedAt(), entry.createdAt(), entry.id()));
+    }
+
     public List<JournalEntryDto> getAllJournalEntriesForUserNotPaged(UUID userId) throws AccessDeniedException {
         User user = serviceHelper.getAuthenticatedUser();
 
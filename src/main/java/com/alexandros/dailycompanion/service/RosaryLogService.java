@@ -6,66 +6,169 @@
 
 package com.alexandros.dailycompanion.service;
 
+import com.alexandros.dailycompanion.calendar.CompletionBitmap;
+import com.alexandros.dailycompanion.calendar.RosaryCompletionCache;
+import com.alexandros.dailycompanion.dto.CursorSlice;
+import com.alexandros.dailycompanion.dto.RosaryCalendarDto;
 import com.alexandros.dailycompanion.dto.RosaryLogDto;
+import com.alexandros.dailycompanion.dto.RosaryMonthDto;
+import com.alexandros.dailycompanion.dto.RosaryStatsDto;
+import com.alexandros.dailycompanion.dto.RosaryStreakProjection;
+import com.alexandros.dailycompanion.dto.RosarySyncDto;
 import com.alexandros.dailycompanion.enums.AuditAction;
 import com.alexandros.dailycompanion.enums.Roles;
 import com.alexandros.dailycompanion.mapper.RosaryLogDtoMapper;
 import com.alexandros.dailycompanion.model.RosaryLog;
+import com.alexandros.dailycompanion.model.RosaryStats;
 import com.alexandros.dailycompanion.model.User;
 import com.alexandros.dailycompanion.repository.RosaryLogRepository;
+import com.alexandros.dailycompanion.repository.RosaryLogUpsertRepository;
+import com.alexandros.dailycompanion.repository.RosaryStatsRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.UUID;
 
 @Service
 public class RosaryLogService {
 
+    static final int MAX_SYNC_DATES = 100;
+    static final int SYNC_WINDOW_DAYS = 30;
+    static final int MAX_CALENDAR_MONTHS = 24;
     private final static Logger logger = LoggerFactory.getLogger(RosaryLogService.class);
     private final AuditLogService auditLogService;
     private final RosaryLogRepository rosaryLogRepository;
+    private final RosaryLogUpsertRepository rosaryLogUpsertRepository;
+    private final RosaryStatsRepository rosaryStatsRepository;
+    private final RosaryCompletionCache rosaryCompletionCache;
     private final ServiceHelper serviceHelper;
 
     @Autowired
-    public RosaryLogService(AuditLogService auditLogService, RosaryLogRepository rosaryLogRepository, ServiceHelper serviceHelper) {
+    public RosaryLogService(AuditLogService auditLogService, RosaryLogRepository rosaryLogRepository, RosaryLogUpsertRepository rosaryLogUpsertRepository, RosaryStatsRepository rosaryStatsRepository, RosaryCompletionCache rosaryCompletionCache, ServiceHelper serviceHelper) {
         this.auditLogService = auditLogService;
         this.rosaryLogRepository = rosaryLogRepository;
+        this.rosaryLogUpsertRepository = rosaryLogUpsertRepository;
+        this.rosaryStatsRepository = rosaryStatsRepository;
+        this.rosaryCompletionCache = rosaryCompletionCache;
         this.serviceHelper = serviceHelper;
     }
 
+    /**
+     * Marks today's rosary as completed and updates the user's streak counters in the
+     * same transaction. The log is written with a single upsert, so the user and the
+     * existing log are not loaded first.
+     *
+     * @param userId    user who prayed
+     * @param ipAddress client IP address for the audit log
+     * @return today's rosary log
+     */
+    @Transactional
     public RosaryLogDto markCompleted(UUID userId, String ipAddress) {
         LocalDate date = ZonedDateTime.now(ZoneOffset.UTC).toLocalDate();
-        User user = serviceHelper.getUserByIdOrThrow(userId);
+        RosaryLogUpsertRepository.Completion completion = rosaryLogUpsertRepository.markCompleted(userId, date)
+                .orElseThrow(() -> new UsernameNotFoundException("Could not find user!"));
 
-        RosaryLog rosaryLog = rosaryLogRepository
-                .findByUserIdAndDate(userId, date)
-                .orElse(new RosaryLog(user, date, true));
+        boolean alreadyCompleted = completion.alreadyCompleted();
+        if(!alreadyCompleted) {
+            recordCompletion(userId, date);
+            rosaryCompletionCache.evictAfterCommit(userId);
+        }
 
-        boolean alreadyCompleted = rosaryLog.isCompleted();
+        auditLogService.logAction(
+                userId,
+                AuditAction.MARK_ROSARY_COMPLETE.name(),
+                "RosaryLog",
+                completion.id(),
+                String.format("{\"user\": \"%s\", \"date\": \"%s\", \"alreadyCompleted\": %b}", userId, date, alreadyCompleted),
+                ipAddress);
+        logger.info("Marked rosary log as complete '{}' for user {}", date, userId);
+        return new RosaryLogDto(completion.id(), date, true);
+    }
 
-        rosaryLog.setCompleted(true);
-        rosaryLogRepository.save(rosaryLog);
+    /**
+     * Records rosaries completed while the client was offline, dated by the client.
+     * All days are written with one multi-row upsert and audited as a single action;
+     * if any day was new, the streak counters are recomputed.
+     *
+     * @param userId    user who prayed
+     * @param dates     completed days, at most {@value #MAX_SYNC_DATES}, none more than
+     *                  {@value #SYNC_WINDOW_DAYS} days old or later than tomorrow (UTC)
+     * @param ipAddress client IP address for the audit log
+     * @return number of days received and newly completed, and the refreshed counters
+     * @throws AccessDeniedException    if the caller is neither the user nor an admin
+     * @throws IllegalArgumentException if no dates, too many dates or a date outside the window is given
+     */
+    @Transactional
+    public RosarySyncDto syncCompletions(UUID userId, List<LocalDate> dates, String ipAddress) throws AccessDeniedException {
+        User user = serviceHelper.getAuthenticatedUser();
+        if(!user.getRole().equals(Roles.ADMIN) && !user.getId().equals(userId)) {
+            throw new AccessDeniedException("You cannot modify another user's data.");
+        }
+        if(dates == null || dates.isEmpty()) {
+            throw new IllegalArgumentException("At least one date is required");
+        }
+        if(dates.size() > MAX_SYNC_DATES) {
+            throw new IllegalArgumentException("At most " + MAX_SYNC_DATES + " dates can be synced at once");
+        }
+        // A client east of UTC can already be on tomorrow's date
+        LocalDate today = ZonedDateTime.now(ZoneOffset.UTC).toLocalDate();
+        LocalDate earliest = today.minusDays(SYNC_WINDOW_DAYS);
+        LocalDate latest = today.plusDays(1);
+        SortedSet<LocalDate> days = new TreeSet<>();
+        for(LocalDate date : dates) {
+            if(date == null || date.isBefore(earliest) || date.isAfter(latest)) {
+                throw new IllegalArgumentException("Dates must be between " + earliest + " and " + latest);
+            }
+            days.add(date);
+        }
+
+        List<RosaryLogUpsertRepository.Completion> completions = rosaryLogUpsertRepository.markCompleted(userId, days);
+        if(completions.isEmpty()) {
+            throw new UsernameNotFoundException("Could not find user!");
+        }
+        int newlyCompleted = (int) completions.stream().filter(completion -> !completion.alreadyCompleted()).count();
+
+        RosaryStatsDto stats;
+        if(newlyCompleted > 0) {
+            rosaryStatsRepository.insertIfNotExists(userId);
+            RosaryStats row = lockStats(userId);
+            applyStreaks(row, rosaryLogRepository.computeStreaks(userId));
+            rosaryStatsRepository.save(row);
+            rosaryCompletionCache.evictAfterCommit(userId);
+            stats = RosaryLogDtoMapper.toRosaryStatsDto(row);
+        } else {
+            stats = getStats(userId);
+        }
 
         auditLogService.logAction(
                 userId,
-                AuditAction.MARK_ROSARY_COMPLETE.name(),
+                AuditAction.SYNC_ROSARY_COMPLETIONS.name(),
                 "RosaryLog",
-                rosaryLog.getId(),
-                String.format("{\"user\": \"%s\", \"date\": \"%s\", \"alreadyCompleted\": %b}", userId, rosaryLog.getDate(), alreadyCompleted),
+                null,
+                String.format("{\"user\": \"%s\", \"from\": \"%s\", \"to\": \"%s\", \"received\": %d, \"newlyCompleted\": %d}",
+                        userId, days.first(), days.last(), days.size(), newlyCompleted),
                 ipAddress);
-        logger.info("Marked rosary log as complete '{}' for user {}", date, user.getId());
-        return RosaryLogDtoMapper.toRosaryDto(rosaryLog);
+        logger.info("Synced {} rosary completions ({} new) for user {}", days.size(), newlyCompleted, userId);
+        return new RosarySyncDto(days.size(), newlyCompleted, stats);
     }
 
     public boolean isCompletedToday(UUID userId) {
@@ -87,65 +190,165 @@ public class RosaryLogService {
         return logs.map(RosaryLogDtoMapper::toRosaryDto);
     }
 
+    /**
+     * Keyset variant of {@link #getHistory(UUID, int, int, String)} ordered by {@code (date, id)}.
+     *
+     * @param userId user whose completed rosaries are listed
+     * @param cursor cursor of the previous page, or blank for the first page
+     * @param size   page size
+     * @param sort   {@code asc} or {@code desc} (default)
+     * @return page of completed rosaries and the cursor of the next page
+     */
+    public CursorSlice<RosaryLogDto> getHistoryAfter(UUID userId, String cursor, int size, String sort) {
+        if(size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sort)
+                .orElse(Sort.Direction.DESC);
+        Limit limit = Limit.of(size + 1);
+
+        List<RosaryLog> logs;
+        if(cursor == null || cursor.isBlank()) {
+            logs = rosaryLogRepository.findByUserIdAndCompletedTrue(userId, Sort.by(direction, "date", "id"), limit);
+        } else {
+            Object[] keys = CursorCodec.decode(cursor, LocalDate.class, UUID.class);
+            logs = direction.isAscending()
+                    ? rosaryLogRepository.findCompletedAfter(userId, (LocalDate) keys[0], (UUID) keys[1], limit)
+                    : rosaryLogRepository.findCompletedBefore(userId, (LocalDate) keys[0], (UUID) keys[1], limit);
+        }
+
+        return CursorSlice.of(logs, size, RosaryLogDtoMapper::toRosaryDto,
+                log -> CursorCodec.encode(log.getDate(), log.getId()));
+    }
+
     public List<RosaryLogDto> getHistory(UUID userId) {
         List<RosaryLog> logs = rosaryLogRepository.findAllByUserIdOrderByDateDesc(userId);
         return RosaryLogDtoMapper.toRosaryLogDto(logs);
     }
 
+    /**
+     * Reads the counters from the user's stats row. A user the backfill has not reached
+     * yet has no row; their counters are computed from the completion bitmap instead.
+     *
+     * @param userId user whose counters are read
+     * @return streaks, last completion and total of completed rosaries
+     */
+    public RosaryStatsDto getStats(UUID userId) {
+        return rosaryStatsRepository.findById(userId)
+                .map(RosaryLogDtoMapper::toRosaryStatsDto)
+                .orElseGet(() -> {
+                    CompletionBitmap bitmap = rosaryCompletionCache.get(userId);
+                    return new RosaryStatsDto(bitmap.currentStreak(), bitmap.longestStreak(), bitmap.getLast(), bitmap.count());
+                });
+    }
+
+    /**
+     * @param userId user whose streak is read
+     * @return consecutive days ending at the user's last completed rosary
+     */
     public int getStreak(UUID userId) {
-        List<RosaryLog> logs = rosaryLogRepository.findCompletedLogsDesc(userId);
+        return getStats(userId).currentStreak();
+    }
 
-        if (logs.isEmpty()) {
-            return 0;
-        }
+    /**
+     * @param userId user whose streak is read
+     * @return longest run of consecutive days with a completed rosary
+     */
+    public int calculateHighestStreak(UUID userId) {
+        return getStats(userId).longestStreak();
+    }
 
-        int streak = 0;
-        LocalDate expected = logs.get(0).getDate();
+    /**
+     * Updates the counters of a user for a newly completed day. The stats row is created
+     * if missing and locked for the rest of the transaction. A completion after the last
+     * one extends or restarts the current streak; one dated earlier can join runs anywhere
+     * in the history, so the counters are then recomputed by the database, as they are for
+     * a row created just now.
+     */
+    private void recordCompletion(UUID userId, LocalDate date) {
+        // History may predate the stats row if the backfill has not covered the user yet
+        boolean created = rosaryStatsRepository.insertIfNotExists(userId) > 0;
+        RosaryStats stats = lockStats(userId);
+        LocalDate last = stats.getLastCompletedDate();
 
-        for(RosaryLog log : logs) {
-            if(log.getDate().isEqual(expected)) {
-                streak++;
-                expected = expected.minusDays(1);
-            } else {
-                break;
-            }
+        if(!created && (last == null || date.isAfter(last))) {
+            boolean consecutive = last != null && last.plusDays(1).equals(date);
+            stats.setCurrentStreak(consecutive ? stats.getCurrentStreak() + 1 : 1);
+            stats.setLongestStreak(Math.max(stats.getLongestStreak(), stats.getCurrentStreak()));
+            stats.setLastCompletedDate(date);
+            stats.setTotalCompleted(stats.getTotalCompleted() + 1);
+        } else {
+            applyStreaks(stats, rosaryLogRepository.computeStreaks(userId));
         }
+        rosaryStatsRepository.save(stats);
+    }
 
-        return streak;
+    private RosaryStats lockStats(UUID userId) {
+        return rosaryStatsRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("Missing rosary stats for user " + userId));
     }
 
-    public int calculateHighestStreak(UUID userId) {
-        List<RosaryLog> logs = rosaryLogRepository.findCompletedLogsDesc(userId);
+    private static void applyStreaks(RosaryStats stats, RosaryStreakProjection streaks) {
+        stats.setCurrentStreak(streaks.getCurrentStreak());
+        stats.setLongestStreak(streaks.getLongestStreak());
+        stats.setLastCompletedDate(streaks.getLastCompletedEpochDay() == null
+                ? null
+                : LocalDate.ofEpochDay(streaks.getLastCompletedEpochDay()));
+        stats.setTotalCompleted(streaks.getTotalCompleted());
+    }
+
+    /**
+     * @param userId user whose completions are listed
+     * @return days with a completed rosary, latest first
+     */
+    public List<LocalDate> getCompletedDates(UUID userId) {
+        return rosaryCompletionCache.get(userId).datesDescending();
+    }
+
+    /**
+     * @param userId user whose completions are read
+     * @return completed days as a bitset starting at the first completed day
+     */
+    public RosaryCalendarDto getCompletionCalendar(UUID userId) {
+        CompletionBitmap bitmap = rosaryCompletionCache.get(userId);
+        return new RosaryCalendarDto(bitmap.getOriginEpochDay(), bitmap.getLength(), bitmap.toBase64());
+    }
 
-        if (logs.isEmpty()) {
-            return 0;
+    /**
+     * Summarizes the completions of a user per month, reading only the requested range.
+     *
+     * @param userId user whose completions are read
+     * @param from   first month, inclusive
+     * @param to     last month, inclusive, at most {@value #MAX_CALENDAR_MONTHS} months after {@code from}
+     * @return one entry per month from {@code from} to {@code to}, including months without completions
+     * @throws IllegalArgumentException if the range is empty or too long
+     */
+    public List<RosaryMonthDto> getMonthlyCalendar(UUID userId, YearMonth from, YearMonth to) {
+        long months = from.until(to, ChronoUnit.MONTHS) + 1;
+        if(months < 1) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
         }
-        int highest = 1;
-        int current = 1;
-
-        for(int i = 1; i < logs.size(); i++) {
-            LocalDate prev = logs.get(i - 1).getDate();
-            LocalDate now = logs.get(i).getDate();
-
-            if (prev.minusDays(1).equals(now)) {
-                current++;
-            } else {
-                highest = Math.max(highest, current);
-                current = 1;
-            }
+        if(months > MAX_CALENDAR_MONTHS) {
+            throw new IllegalArgumentException("At most " + MAX_CALENDAR_MONTHS + " months can be requested at once");
         }
-        return Math.max(highest, current);
-    }
 
-    public List<LocalDate> getCompletedDates(UUID userId) {
-        return rosaryLogRepository.findAllByUserIdOrderByDateDesc(userId)
-                .stream()
-                .map(RosaryLog::getDate)
-                .toList();
+        int[] days = new int[(int) months];
+        int[] completed = new int[(int) months];
+        for(LocalDate date : rosaryLogRepository.findCompletedDatesBetween(userId, from.atDay(1), to.atEndOfMonth())) {
+            int index = (int) from.until(YearMonth.from(date), ChronoUnit.MONTHS);
+            days[index] |= 1 << (date.getDayOfMonth() - 1);
+            completed[index]++;
+        }
+
+        List<RosaryMonthDto> calendar = new ArrayList<>(days.length);
+        for(int i = 0; i < days.length; i++) {
+            calendar.add(new RosaryMonthDto(from.plusMonths(i), days[i], completed[i]));
+        }
+        return calendar;
     }
 
     public boolean isCompletedOn(UUID userId, LocalDate date) {
-        return rosaryLogRepository.existsByUserIdAndDate(userId, date);
+        return rosaryCompletionCache.get(userId).isCompleted(date);
     }
 
     public int getAmountOfPrayedRosaries(UUID userId) throws AccessDeniedException {
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.service;
+
+import com.alexandros.dailycompanion.catalog.SaintCatalog;
+import com.alexandros.dailycompanion.dto.SaintDto;
+import com.alexandros.dailycompanion.dto.SaintImportResultDto;
+import com.alexandros.dailycompanion.dto.SaintImportResultDto.LineError;
+import com.alexandros.dailycompanion.dto.SaintRequest;
+import com.alexandros.dailycompanion.enums.AuditAction;
+import com.alexandros.dailycompanion.image.HashedImageStore;
+import com.alexandros.dailycompanion.model.User;
+import com.alexandros.dailycompanion.repository.SaintBatchRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import and export of the saint catalog as NDJSON (one JSON object per line).
+ * <p>
+ * Imports are read line by line from the request stream, validated against the
+ * {@link SaintRequest} constraints and written with JDBC batches. Every chunk of
+ * {@value #CHUNK_SIZE} valid lines is committed in its own transaction together with
+ * one audit entry summarizing it, so a failure loses at most the current chunk.
+ * Saints are matched by name: unknown names are inserted, changed saints updated and
+ * unchanged saints left alone.
+ * <p>
+ * Exports are written from the in-memory catalog and can be imported again as is.
+ */
+@Service
+public class SaintBulkService {
+
+    private final static Logger logger = LoggerFactory.getLogger(SaintBulkService.class);
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final SaintBatchRepository saintBatchRepository;
+    private final SaintCatalog saintCatalog;
+    private final HashedImageStore hashedImageStore;
+    private final SaintImagePlaceholderService saintImagePlaceholderService;
+    private final AuditLogService auditLogService;
+    private final ServiceHelper serviceHelper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public SaintBulkService(SaintBatchRepository saintBatchRepository,
+                            SaintCatalog saintCatalog,
+                            HashedImageStore hashedImageStore,
+                            SaintImagePlaceholderService saintImagePlaceholderService,
+                            AuditLogService auditLogService,
+                            ServiceHelper serviceHelper,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager) {
+        this.saintBatchRepository = saintBatchRepository;
+        this.saintCatalog = saintCatalog;
+        this.hashedImageStore = hashedImageStore;
+        this.saintImagePlaceholderService = saintImagePlaceholderService;
+        this.auditLogService = auditLogService;
+        this.serviceHelper = serviceHelper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Imports saints from an NDJSON stream. Blank lines are ignored; malformed or
+     * invalid lines are skipped and reported.
+     *
+     * @param in        NDJSON input, UTF-8 encoded
+     * @param ipAddress client IP address for the audit log
+     * @return counts of inserted, updated and rejected saints
+     * @throws UncheckedIOException if the stream cannot be read; chunks committed
+     *                              up to that point are kept
+     * @throws org.springframework.dao.DataAccessException if a chunk fails to commit; the
+     *                              import stops there and earlier chunks are kept
+     */
+    public SaintImportResultDto importSaints(InputStream in, String ipAddress) {
+        User user = serviceHelper.getAuthenticatedUser();
+        Map<String, SaintDto> existing = saintBatchRepository.findAllByName();
+        Chunk chunk = new Chunk();
+        List<LineError> errors = new ArrayList<>();
+        int rejected = 0;
+
+        try {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                long lineNumber = 0;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+
+                    String error = stage(line, lineNumber, existing, chunk);
+                    if (error != null) {
+                        rejected++;
+                        if (errors.size() < MAX_REPORTED_ERRORS) {
+                            errors.add(new LineError(lineNumber, error));
+                        }
+                    }
+                    if (chunk.size() == CHUNK_SIZE) {
+                        commit(chunk, user.getId(), ipAddress);
+                    }
+                }
+            }
+            commit(chunk, user.getId(), ipAddress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read saint import", e);
+        } finally {
+            // Chunks committed before a failure are visible as well
+            if (chunk.inserted + chunk.updated > 0) {
+                saintImagePlaceholderService.fillMissing();
+                saintCatalog.refreshAfterCommit();
+            }
+        }
+
+        logger.info("Imported saints | inserted={} | updated={} | rejected={}", chunk.inserted, chunk.updated, rejected);
+        return new SaintImportResultDto(chunk.inserted, chunk.updated, rejected, List.copyOf(errors));
+    }
+
+    /**
+     * Writes every saint of the catalog as one JSON line, ordered by name.
+     *
+     * @param out target stream; flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public void exportSaints(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        for (SaintDto saint : saintCatalog.snapshot().getSaints()) {
+            objectMapper.writeValue(generator, saint);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    /**
+     * Parses and validates one line and adds it to the chunk.
+     *
+     * @return the reason the line was rejected, or {@code null}
+     */
+    private String stage(String line, long lineNumber, Map<String, SaintDto> existing, Chunk chunk) {
+        SaintRequest request;
+        try {
+            request = objectMapper.readValue(line, SaintRequest.class);
+        } catch (JsonProcessingException e) {
+            return "Malformed JSON: " + e.getOriginalMessage();
+        }
+
+        Set<ConstraintViolation<SaintRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        chunk.extendLines(lineNumber);
+        SaintDto current = existing.get(request.name());
+        if (current == null) {
+            SaintDto saint = toSaintDto(UUID.randomUUID(), request);
+            chunk.inserts.add(saint);
+            existing.put(saint.name(), saint);
+        } else {
+            SaintDto saint = toSaintDto(current.id(), request);
+            if (!saint.equals(current)) {
+                chunk.updates.add(saint);
+                existing.put(saint.name(), saint);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the staged saints in one transaction. The committed counts only grow once
+     * the transaction succeeds; a failure propagates and ends the import, discarding the
+     * name map that already holds the failed chunk's saints.
+     */
+    private void commit(Chunk chunk, UUID userId, String ipAddress) {
+        if (chunk.size() == 0) {
+            return;
+        }
+        int inserts = chunk.inserts.size();
+        int updates = chunk.updates.size();
+        String metadata = String.format("{\"Lines\": \"%d-%d\", \"Inserted\": %d, \"Updated\": %d}",
+                chunk.firstLine, chunk.lastLine, inserts, updates);
+        transactionTemplate.executeWithoutResult(status -> {
+            saintBatchRepository.insert(chunk.inserts);
+            saintBatchRepository.update(chunk.updates);
+            auditLogService.logAction(userId, AuditAction.BULK_IMPORT_SAINTS.name(), "Saint", null, metadata, ipAddress);
+        });
+        chunk.inserted += inserts;
+        chunk.updated += updates;
+        chunk.firstLine = 0;
+    }
+
+    private SaintDto toSaintDto(UUID id, SaintRequest request) {
+        return new SaintDto(id, request.name(), request.birthYear(), request.deathYear(), request.feastDay(),
+                request.biography(), request.patronage(), request.canonizationYear(),
+                hashedImageStore.hashedUrl(request.imageUrl()),
+                request.imageSource(), request.imageAuthor(), request.imageLicence());
+    }
+
+    /**
+     * Saints staged for the next transaction and the input lines they came from, plus
+     * the number of saints committed so far.
+     */
+    private static final class Chunk {
+        private final List<SaintDto> inserts = new ArrayList<>(CHUNK_SIZE);
+        private final List<SaintDto> updates = new ArrayList<>(CHUNK_SIZE);
+        private int inserted;
+        private int updated;
+        private long firstLine;
+        private long lastLine;
+
+        private int size() {
+            return inserts.size() + updates.size();
+        }
+
+        private void extendLines(long lineNumber) {
+            if (firstLine == 0) {
+                firstLine = lineNumber;
+            }
+            lastLine = lineNumber;
+        }
+    }
+}
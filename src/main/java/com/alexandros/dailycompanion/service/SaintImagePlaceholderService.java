@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.service;
+
+import com.alexandros.dailycompanion.image.ImagePlaceholder;
+import com.alexandros.dailycompanion.image.ImagePlaceholderGenerator;
+import com.alexandros.dailycompanion.model.Saint;
+import com.alexandros.dailycompanion.repository.SaintRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Keeps the image placeholder columns of saints in line with their image URLs.
+ * <p>
+ * Writers that change an image URL either set the placeholder right away with
+ * {@link #apply(Saint)} or clear {@code imageBlurHash}, which marks the saint for
+ * {@link #fillMissing()}.
+ */
+@Service
+public class SaintImagePlaceholderService {
+
+    private final static Logger logger = LoggerFactory.getLogger(SaintImagePlaceholderService.class);
+    private static final String LOCAL_IMAGE_PREFIX = "/images/";
+
+    private final SaintRepository saintRepository;
+    private final ImagePlaceholderGenerator placeholderGenerator;
+
+    @Autowired
+    public SaintImagePlaceholderService(SaintRepository saintRepository, ImagePlaceholderGenerator placeholderGenerator) {
+        this.saintRepository = saintRepository;
+        this.placeholderGenerator = placeholderGenerator;
+    }
+
+    /**
+     * Sets the placeholder of a saint's current image, or clears it if the image is
+     * external or unreadable. Does not save the saint.
+     *
+     * @param saint saint to update
+     */
+    public void apply(Saint saint) {
+        ImagePlaceholder placeholder = placeholderGenerator.generate(saint.getImageUrl()).orElse(null);
+        saint.setImageBlurHash(placeholder == null ? null : placeholder.blurHash());
+        saint.setImageColor(placeholder == null ? null : placeholder.color());
+        saint.setImageWidth(placeholder == null ? null : placeholder.width());
+        saint.setImageHeight(placeholder == null ? null : placeholder.height());
+    }
+
+    /**
+     * Computes the placeholder of every locally served image that does not have one yet.
+     *
+     * @return number of saints updated
+     */
+    public int fillMissing() {
+        List<Saint> missing = saintRepository.findByImageUrlStartingWithAndImageBlurHashIsNull(LOCAL_IMAGE_PREFIX);
+        missing.forEach(this::apply);
+        List<Saint> filled = missing.stream()
+                .filter(saint -> saint.getImageBlurHash() != null)
+                .toList();
+
+        if(filled.isEmpty()) {
+            return 0;
+        }
+        saintRepository.saveAll(filled);
+        logger.info("Computed image placeholders | saints={}", filled.size());
+        return filled.size();
+    }
+}
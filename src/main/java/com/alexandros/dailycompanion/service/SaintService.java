@@ -6,10 +6,28 @@
 
 package com.alexandros.dailycompanion.service;
 
+import com.alexandros.dailycompanion.calendar.LiturgicalCalendar;
+import com.alexandros.dailycompanion.catalog.PatronageParser;
+import com.alexandros.dailycompanion.catalog.SaintCatalog;
+import com.alexandros.dailycompanion.catalog.SaintCatalogResponseCache;
+import com.alexandros.dailycompanion.catalog.SaintCatalogSnapshot;
+import com.alexandros.dailycompanion.catalog.SerializedResponse;
+import com.alexandros.dailycompanion.catalog.TodaysSaints;
+import com.alexandros.dailycompanion.converter.MonthDayConverter;
+import com.alexandros.dailycompanion.dto.CursorSlice;
+import com.alexandros.dailycompanion.dto.LiturgicalDayDto;
+import com.alexandros.dailycompanion.dto.SaintBatchDto;
+import com.alexandros.dailycompanion.dto.SaintChangesDto;
 import com.alexandros.dailycompanion.dto.SaintDto;
+import com.alexandros.dailycompanion.dto.SaintField;
 import com.alexandros.dailycompanion.dto.SaintListDto;
 import com.alexandros.dailycompanion.dto.SaintRequest;
+import com.alexandros.dailycompanion.dto.SaintSearchDto;
+import com.alexandros.dailycompanion.dto.SaintSearchProjection;
 import com.alexandros.dailycompanion.dto.SaintUpdateRequest;
+import com.alexandros.dailycompanion.dto.UpcomingFeastDto;
+import com.alexandros.dailycompanion.image.HashedImageStore;
+import com.alexandros.dailycompanion.image.ImageVariant;
 import com.alexandros.dailycompanion.mapper.SaintDtoMapper;
 import com.alexandros.dailycompanion.model.Saint;
 import com.alexandros.dailycompanion.model.User;
@@ -19,52 +37,202 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.MonthDay;
+import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class SaintService {
     private final static Logger logger = LoggerFactory.getLogger(SaintService.class);
+    static final int MAX_BATCH_IDS = 100;
+    private static final MonthDayConverter MONTH_DAY_CONVERTER = new MonthDayConverter();
     private final SaintRepository saintRepository;
     private final ServiceHelper serviceHelper;
     private final AuditLogService auditLogService;
+    private final SaintCatalog saintCatalog;
+    private final SaintCatalogResponseCache saintCatalogResponseCache;
+    private final HashedImageStore hashedImageStore;
+    private final TodaysSaints todaysSaints;
+    private final LiturgicalCalendar liturgicalCalendar;
+    private final SaintImagePlaceholderService saintImagePlaceholderService;
 
     @Autowired
-    public SaintService(SaintRepository saintRepository, ServiceHelper serviceHelper, AuditLogService auditLogService) {
+    public SaintService(SaintRepository saintRepository, ServiceHelper serviceHelper, AuditLogService auditLogService, SaintCatalog saintCatalog, SaintCatalogResponseCache saintCatalogResponseCache, HashedImageStore hashedImageStore, TodaysSaints todaysSaints, LiturgicalCalendar liturgicalCalendar, SaintImagePlaceholderService saintImagePlaceholderService) {
         this.saintRepository = saintRepository;
         this.serviceHelper = serviceHelper;
         this.auditLogService = auditLogService;
+        this.saintCatalog = saintCatalog;
+        this.saintCatalogResponseCache = saintCatalogResponseCache;
+        this.hashedImageStore = hashedImageStore;
+        this.todaysSaints = todaysSaints;
+        this.liturgicalCalendar = liturgicalCalendar;
+        this.saintImagePlaceholderService = saintImagePlaceholderService;
     }
 
     public Page<SaintListDto> getAllSaintsList(String query, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending());
+        Pageable pageable = PageRequest.of(page, size);
+        List<SaintListDto> saints = saintCatalog.snapshot().searchByName(query);
 
-        Page<SaintListDto> saints;
-        if (query == null || query.trim().isEmpty()) {
-            saints = saintRepository.findAllList(query, pageable);
-        } else {
-            saints = saintRepository.findByNameContainingIgnoreCase(query, pageable);
+        int from = (int) Math.min(pageable.getOffset(), saints.size());
+        int to = Math.min(from + pageable.getPageSize(), saints.size());
+        return new PageImpl<>(saints.subList(from, to), pageable, saints.size());
+    }
+
+    /**
+     * Cursor variant of {@link #getAllSaintsList(String, int, int)}. The cursor holds the
+     * name and id of the last saint on the previous page; if that saint has since been
+     * removed, an unfiltered listing resumes at the first saint whose name sorts after it.
+     * A filtered listing is ranked by match quality rather than name, so there the cursor
+     * is rejected and the client has to start over.
+     *
+     * @param query  optional name filter
+     * @param cursor cursor of the previous page, or blank for the first page
+     * @param size   page size
+     * @return page of saints and the cursor of the next page
+     * @throws IllegalArgumentException if the cursor is malformed or no longer resolvable
+     */
+    public CursorSlice<SaintListDto> getSaintsListAfter(String query, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        List<SaintListDto> saints = saintCatalog.snapshot().searchByName(query);
+
+        int from = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            Object[] keys = CursorCodec.decode(cursor, String.class, UUID.class);
+            boolean nameOrdered = query == null || query.isBlank();
+            from = resumePosition(saints, (String) keys[0], (UUID) keys[1], nameOrdered);
+        }
+
+        int to = Math.min(from + size + 1, saints.size());
+        return CursorSlice.of(saints.subList(from, to), size, saint -> saint,
+                saint -> CursorCodec.encode(saint.name(), saint.id()));
+    }
+
+    private static int resumePosition(List<SaintListDto> saints, String lastName, UUID lastId, boolean nameOrdered) {
+        for (int i = 0; i < saints.size(); i++) {
+            if (lastId.equals(saints.get(i).id())) {
+                return i + 1;
+            }
+        }
+        if (!nameOrdered) {
+            throw new IllegalArgumentException("Cursor is no longer valid, restart the listing");
+        }
+        for (int i = 0; i < saints.size(); i++) {
+            String name = saints.get(i).name();
+            if (name != null && String.CASE_INSENSITIVE_ORDER.compare(name, lastName) > 0) {
+                return i;
+            }
         }
-        System.out.println(saints);
-        return saints;
+        return saints.size();
+    }
+
+    public Page<SaintSearchDto> searchSaints(String query, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageable);
+        }
+
+        List<SaintSearchDto> hits = saintRepository.searchFullText(query, pageable.getPageSize(), pageable.getOffset())
+                .stream()
+                .map(this::toSaintSearchDto)
+                .toList();
+        long total = saintRepository.countFullText(query);
+        return new PageImpl<>(hits, pageable, total);
+    }
+
+    public List<SaintListDto> getSaintsByPatronage(List<String> terms, boolean matchAll) {
+        return saintCatalog.snapshot().findByPatronage(terms, matchAll);
+    }
+
+    public List<String> suggestPatronage(String prefix, int limit) {
+        return saintCatalog.snapshot().suggestPatronage(prefix, Math.min(limit, 50));
     }
 
     public SaintDto getSaint(UUID saintId) {
-        Saint saint = serviceHelper.getSaintById(saintId);
-        return SaintDtoMapper.toSaintDto(saint);
+        return saintCatalog.snapshot().findById(saintId).orElseThrow(() ->
+                new IllegalArgumentException(String.format("Could not find saint with id: %s", saintId)));
+    }
+
+    /**
+     * Looks up several saints at once from the catalog. Unknown ids are reported
+     * instead of failing the whole batch; duplicate ids are returned once.
+     *
+     * @param ids saint identifiers, at most {@value #MAX_BATCH_IDS} including duplicates
+     * @return saints found in request order, and the ids that were not found
+     * @throws IllegalArgumentException if no ids, too many ids or a malformed id is given
+     */
+    public SaintBatchDto getSaints(List<String> ids) {
+        if(ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one saint id is required");
+        }
+        if(ids.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException(String.format("At most %d saint ids can be requested at once", MAX_BATCH_IDS));
+        }
+        Set<UUID> requested = new LinkedHashSet<>();
+        for(String id : ids) {
+            requested.add(UUID.fromString(id.trim()));
+        }
+
+        SaintCatalogSnapshot snapshot = saintCatalog.snapshot();
+        List<SaintDto> saints = new ArrayList<>(requested.size());
+        List<UUID> missing = new ArrayList<>();
+        for(UUID id : requested) {
+            snapshot.findById(id).ifPresentOrElse(saints::add, () -> missing.add(id));
+        }
+        return new SaintBatchDto(saints, missing);
+    }
+
+    /**
+     * Returns the saints most similar to a saint by biography and patronage.
+     *
+     * @param saintId saint identifier
+     * @param limit   maximum number of saints, capped at 10
+     * @return similar saints, most similar first
+     * @throws IllegalArgumentException if the saint does not exist or {@code limit} is below 1
+     */
+    public List<SaintListDto> getSimilarSaints(UUID saintId, int limit) {
+        if(limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        getSaint(saintId);
+        return saintCatalog.snapshot().findSimilar(saintId, limit);
+    }
+
+    /**
+     * Returns only the selected fields of a saint.
+     *
+     * @param saintId saint identifier
+     * @param fields  comma-separated field names, e.g. {@code id,name,feastDay}
+     * @return selected fields of the saint
+     * @throws IllegalArgumentException if the saint does not exist or a field is unknown
+     */
+    public Map<String, Object> getSaint(UUID saintId, String fields) {
+        Set<SaintField> selected = SaintField.parse(fields);
+        return SaintField.project(getSaint(saintId), selected);
+    }
+
+    /**
+     * Returns the catalog changes a client needs to catch up from a revision.
+     *
+     * @param since last revision the client has applied, or {@code 0} for a full sync
+     * @return changed saints, deleted saint ids and the new revision
+     * @throws IllegalArgumentException if {@code since} is negative
+     */
+    public SaintChangesDto getChangesSince(long since) {
+        return saintCatalog.snapshot().changesSince(since);
     }
 
     public SaintDto getSaintByFeastDay() {
-        MonthDay today = MonthDay.now();
-        return saintRepository.findByFeastDay(today)
-                .map(SaintDtoMapper::toSaintDto)
-                .orElse(null);
+        List<SaintDto> saints = todaysSaints.getSaints(ZoneId.systemDefault());
+        return saints.isEmpty() ? null : saints.get(0);
     }
 
     public SaintDto createSaint(@Valid SaintRequest saintRequest, String ipAddress) {
@@ -77,12 +245,15 @@ public class SaintService {
         saint.setFeastDay(saintRequest.feastDay());
         saint.setBiography(saintRequest.biography());
         saint.setPatronage(saintRequest.patronage());
+        saint.setPatronageTerms(PatronageParser.parse(saintRequest.patronage()));
         saint.setCanonizationYear(saintRequest.canonizationYear());
-        saint.setImageUrl(saintRequest.imageUrl());
+        saint.setImageUrl(hashedImageStore.hashedUrl(saintRequest.imageUrl()));
+        saintImagePlaceholderService.apply(saint);
         saint.setImageSource(saintRequest.imageSource());
         saint.setImageAuthor(saintRequest.imageAuthor());
         saint.setImageLicence(saintRequest.imageLicence());
         saintRepository.save(saint);
+        saintCatalog.refreshAfterCommit();
 
         auditLogService.logAction(
                 user.getId(),
@@ -128,10 +299,12 @@ public class SaintService {
         }
         if(saintUpdateRequest.patronage() != null && !saintUpdateRequest.patronage().isEmpty()) {
             currentSaint.setPatronage(saintUpdateRequest.patronage());
+            currentSaint.setPatronageTerms(PatronageParser.parse(saintUpdateRequest.patronage()));
             updated = true;
         }
         if(saintUpdateRequest.imageUrl() != null && !saintUpdateRequest.imageUrl().isEmpty()) {
-            currentSaint.setImageUrl(saintUpdateRequest.imageUrl());
+            currentSaint.setImageUrl(hashedImageStore.hashedUrl(saintUpdateRequest.imageUrl()));
+            saintImagePlaceholderService.apply(currentSaint);
             updated = true;
         }
         if(saintUpdateRequest.imageSource() != null && !saintUpdateRequest.imageSource().isEmpty()) {
@@ -149,6 +322,7 @@ public class SaintService {
 
         if(updated) {
             saintRepository.save(currentSaint);
+            saintCatalog.refreshAfterCommit();
             auditLogService.logAction(
                     user.getId(),
                     "UPDATE_SAINT",
@@ -166,6 +340,7 @@ public class SaintService {
         User user = serviceHelper.getAuthenticatedUser();
         Saint saint = serviceHelper.getSaintById(saintId);
         saintRepository.deleteById(saint.getId());
+        saintCatalog.refreshAfterCommit();
 
         auditLogService.logAction(
                 user.getId(),
@@ -180,72 +355,131 @@ public class SaintService {
     }
 
     public Map<String, List<String>> getSaintsByMonth(int year, int month) {
-        List<Saint> saints = saintRepository.findAll();
+        return saintCatalog.snapshot().getSaintNamesByMonth(month);
+    }
 
-        return saints.stream()
-                .filter(saint -> saint.getFeastDay() != null &&
-                        saint.getFeastDay().getMonthValue() == month)
-                .collect(Collectors.groupingBy(
-                        saint -> saint.getFeastDay().toString(),
-                        Collectors.mapping(Saint::getName, Collectors.toList())
-                ));
+    public SerializedResponse getSaintsByMonthSerialized(int year, int month) {
+        return saintCatalogResponseCache.month(month);
+    }
+
+    /**
+     * Returns the liturgical calendar of a month: season, movable celebrations and
+     * saints of every day, for the given year.
+     *
+     * @param year  civil year
+     * @param month calendar month ({@code 1-12})
+     * @return days of the month in date order
+     * @throws IllegalArgumentException if the month or year is out of range
+     */
+    public List<LiturgicalDayDto> getLiturgicalMonth(int year, int month) {
+        return liturgicalCalendar.getMonth(year, month);
     }
 
     public List<SaintDto> getAllSaintsByFeastCode(String feastCode) {
         MonthDay feastDay = MonthDay.parse("--" + feastCode);
-        List<Saint> saints = saintRepository.findAllByFeastDay(feastDay);
+        return saintCatalog.snapshot().getSaintsOn(feastDay);
+    }
 
-        if (saints.isEmpty()) {
-            return Collections.emptyList();
-        }
+    /**
+     * Returns only the selected fields of the saints celebrated on a feast day.
+     *
+     * @param feastCode feast day as {@code MM-dd}
+     * @param fields    comma-separated field names, e.g. {@code id,name}
+     * @return selected fields of each saint
+     * @throws IllegalArgumentException if a field is unknown
+     */
+    public List<Map<String, Object>> getAllSaintsByFeastCode(String feastCode, String fields) {
+        Set<SaintField> selected = SaintField.parse(fields);
+        return getAllSaintsByFeastCode(feastCode).stream()
+                .map(saint -> SaintField.project(saint, selected))
+                .toList();
+    }
 
+    /**
+     * Returns the saints whose feast day lies in an inclusive window, in calendar order.
+     * A window whose start is after its end wraps around New Year, e.g. {@code 12-28}
+     * to {@code 01-03}.
+     *
+     * @param fromCode first feast day as {@code MM-dd}
+     * @param toCode   last feast day as {@code MM-dd}
+     * @return saints celebrated in the window (summary view)
+     * @throws IllegalArgumentException if a feast code is not a valid {@code MM-dd} day
+     */
+    public List<SaintListDto> getSaintsBetween(String fromCode, String toCode) {
+        MonthDay from = parseFeastCode(fromCode);
+        MonthDay to = parseFeastCode(toCode);
+        List<SaintListDto> saints = from.isAfter(to)
+                ? saintRepository.findListByFeastDayAcrossNewYear(from, to)
+                : saintRepository.findListByFeastDayBetween(from, to);
         return saints.stream()
-                .map(SaintDtoMapper::toSaintDto)
+                .map(s -> new SaintListDto(s.id(), s.name(), s.feastDay(), ImageVariant.THUMBNAIL.urlFor(s.imageUrl()),
+                        s.imageBlurHash(), s.imageColor(), s.imageWidth(), s.imageHeight()))
                 .toList();
     }
 
-    public List<SaintDto> getAllSaintsByFeastDay() {
-        MonthDay today = MonthDay.now();
-        List<Saint> saints = saintRepository.findAllByFeastDay(today);
-
-        if(saints.isEmpty()) {
-            return Collections.emptyList();
+    private static MonthDay parseFeastCode(String feastCode) {
+        try {
+            return MonthDay.parse("--" + feastCode);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid feast day: " + feastCode);
         }
+    }
 
-        return saints.stream()
-                .map(SaintDtoMapper::toSaintDto)
-                .toList();
+    public List<SaintDto> getAllSaintsByFeastDay() {
+        return todaysSaints.getSaints(ZoneId.systemDefault());
     }
 
-    public List<SaintListDto> getTodaysSaintList() {
-        MonthDay today = MonthDay.now();
-        List<Saint> saints = saintRepository.findAllByFeastDay(today);
+    /**
+     * Returns the saints whose feast day is today in the client's time zone.
+     *
+     * @param timeZone IANA zone id (e.g. {@code Europe/Athens}) or UTC offset (e.g. {@code +03:00});
+     *                 the server's zone is used if blank
+     * @return today's saints (summary view)
+     * @throws IllegalArgumentException if the time zone is not recognised
+     */
+    public List<SaintListDto> getTodaysSaintList(String timeZone) {
+        return todaysSaints.getSaintList(resolveZone(timeZone));
+    }
 
-        if(saints.isEmpty()) {
-            return Collections.emptyList();
+    /**
+     * Returns the next feast days from today in the client's time zone, with their saints.
+     *
+     * @param limit    number of feast days, at most 60
+     * @param timeZone IANA zone id or UTC offset; the server's zone is used if blank
+     * @return upcoming feast days in date order, today included
+     * @throws IllegalArgumentException if the limit is below 1 or the time zone is not recognised
+     */
+    public List<UpcomingFeastDto> getUpcomingFeasts(int limit, String timeZone) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
         }
+        LocalDate today = LocalDate.now(resolveZone(timeZone));
+        return saintCatalog.snapshot().getUpcomingFeasts(today, Math.min(limit, 60));
+    }
 
-        return saints.stream()
-                .map(s -> new SaintListDto(
-                        s.getId(),
-                        s.getName(),
-                        s.getFeastDay(),
-                        s.getImageUrl()
-                ))
-                .toList();
+    private static ZoneId resolveZone(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(timeZone.trim());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid time zone: " + timeZone);
+        }
     }
 
     public Map<String, List<String>> getAllFeastDaysMapped() {
-        List<Saint> saints = saintRepository.findAll();
-        Map<String, List<String>> feastMap = new HashMap<>();
+        return saintCatalog.snapshot().getFeastDayMap();
+    }
 
-        for(Saint saint : saints) {
-            if(saint.getFeastDay() == null) {
-                continue;
-            }
-            String feastCode = String.format("%02d-%02d", saint.getFeastDay().getMonthValue(), saint.getFeastDay().getDayOfMonth());
-            feastMap.computeIfAbsent(feastCode, k -> new ArrayList<>()).add(saint.getName());
-        }
-        return feastMap;
+    public SerializedResponse getAllFeastDaysSerialized() {
+        return saintCatalogResponseCache.feastDays();
+    }
+
+    private SaintSearchDto toSaintSearchDto(SaintSearchProjection hit) {
+        MonthDay feastDay = MONTH_DAY_CONVERTER.convertToEntityAttribute(hit.getFeastDay());
+        SaintListDto saint = new SaintListDto(hit.getId(), hit.getName(), feastDay, ImageVariant.THUMBNAIL.urlFor(hit.getImageUrl()),
+                hit.getImageBlurHash(), hit.getImageColor(), hit.getImageWidth(), hit.getImageHeight());
+        return new SaintSearchDto(saint, hit.getSnippet(), hit.getRank() != null ? hit.getRank() : 0);
     }
 }
@@ -16,6 +16,7 @@ import com.alexandros.dailycompanion.model.User;
 import com.alexandros.dailycompanion.repository.FeedbackRepository;
 import com.alexandros.dailycompanion.repository.JournalEntryRepository;
 import com.alexandros.dailycompanion.repository.RosaryLogRepository;
+import com.alexandros.dailycompanion.repository.RosaryStatsRepository;
 import com.alexandros.dailycompanion.repository.UserRepository;
 import com.alexandros.dailycompanion.security.JwtUtil;
 import com.alexandros.dailycompanion.security.PasswordUtil;
@@ -57,11 +58,12 @@ public class UserService implements UserDetailsService {
     private final RefreshTokenService refreshTokenService;
     private final JournalEntryRepository journalEntryRepository;
     private final RosaryLogRepository rosaryLogRepository;
+    private final RosaryStatsRepository rosaryStatsRepository;
     private final FeedbackRepository feedbackRepository;
     private final RosaryLogService rosaryLogService;
 
     @Autowired
-    public UserService(AuditLogService auditLogService, @Lazy AuthenticationManager authenticationManager, UserRepository userRepository, JwtUtil jwtUtil, ServiceHelper serviceHelper, RefreshTokenService refreshTokenService, JournalEntryRepository journalEntryRepository, RosaryLogRepository rosaryLogRepository, FeedbackRepository feedbackRepository, RosaryLogService rosaryLogService) {
+    public UserService(AuditLogService auditLogService, @Lazy AuthenticationManager authenticationManager, UserRepository userRepository, JwtUtil jwtUtil, ServiceHelper serviceHelper, RefreshTokenService refreshTokenService, JournalEntryRepository journalEntryRepository, RosaryLogRepository rosaryLogRepository, RosaryStatsRepository rosaryStatsRepository, FeedbackRepository feedbackRepository, RosaryLogService rosaryLogService) {
         this.auditLogService = auditLogService;
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
@@ -70,6 +72,7 @@ public class UserService implements UserDetailsService {
         this.refreshTokenService = refreshTokenService;
         this.journalEntryRepository = journalEntryRepository;
         this.rosaryLogRepository = rosaryLogRepository;
+        this.rosaryStatsRepository = rosaryStatsRepository;
         this.feedbackRepository = feedbackRepository;
         this.rosaryLogService = rosaryLogService;
     }
@@ -131,7 +134,7 @@ public class UserService implements UserDetailsService {
         User user = serviceHelper.getAuthenticatedUser();
 
         int journalCount = journalEntryRepository.countByUserId(user.getId());
-        int rosaryCount = rosaryLogRepository.countCompletedByUserId(user.getId());
+        RosaryStatsDto rosaryStats = rosaryLogService.getStats(user.getId());
         int feedbackCount = feedbackRepository.countByUserEmail(user.getEmail());
 
         Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "submittedAt"));
@@ -139,16 +142,13 @@ public class UserService implements UserDetailsService {
                 .findAllByUserEmail(user.getEmail(), pageable)
                 .map(FeedbackDtoMapper::toFeedbackDto);
 
-        int currentStreak = rosaryLogService.getStreak(user.getId());
-        int highestStreak = rosaryLogService.calculateHighestStreak(user.getId());
-
         return new UserDashboardDto(
                 journalCount,
-                rosaryCount,
+                rosaryStats.totalCompleted(),
                 feedbackCount,
                 recentFeedbacks,
-                currentStreak,
-                highestStreak
+                rosaryStats.currentStreak(),
+                rosaryStats.longestStreak()
         );
     }
 
@@ -230,6 +230,7 @@ public class UserService implements UserDetailsService {
         refreshTokenService.deleteByUserId(currentUser.getId());
         journalEntryRepository.deleteAllByUserId(userId);
         rosaryLogRepository.deleteAllByUserId(userId);
+        rosaryStatsRepository.deleteById(userId);
 
         auditLogService.logAction(
                 currentUser.getId(),
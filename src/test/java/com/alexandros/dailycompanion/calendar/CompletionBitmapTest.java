@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompletionBitmapTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 12, 30);
+
+    @Test
+    void emptyBitmapShouldHaveNoCompletions() {
+        CompletionBitmap bitmap = CompletionBitmap.of(List.of());
+
+        assertNull(bitmap.getOrigin());
+        assertNull(bitmap.getLast());
+        assertEquals(0, bitmap.count());
+        assertEquals(0, bitmap.currentStreak());
+        assertEquals(0, bitmap.longestStreak());
+        assertEquals("", bitmap.toBase64());
+        assertFalse(bitmap.isCompleted(START));
+    }
+
+    @Test
+    void toBase64ShouldPackDaysLowBitFirst() {
+        // Days 0, 1, 3 and 8 -> bytes 0b00001011, 0b00000001
+        CompletionBitmap bitmap = CompletionBitmap.of(List.of(START, START.plusDays(1), START.plusDays(3), START.plusDays(8)));
+
+        assertEquals(START, bitmap.getOrigin());
+        assertEquals(START.toEpochDay(), bitmap.getOriginEpochDay());
+        assertEquals(9, bitmap.getLength());
+        assertEquals(START.plusDays(8), bitmap.getLast());
+        assertEquals(Base64.getEncoder().encodeToString(new byte[]{0b00001011, 0b00000001}), bitmap.toBase64());
+    }
+
+    @Test
+    void streaksShouldSpanWordBoundaries() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int day = 0; day < 150; day++) {
+            dates.add(START.plusDays(day));
+        }
+        dates.add(START.plusDays(200));
+        for (int day = 230; day < 300; day++) {
+            dates.add(START.plusDays(day));
+        }
+
+        CompletionBitmap bitmap = CompletionBitmap.of(dates);
+
+        assertEquals(150, bitmap.longestStreak());
+        assertEquals(70, bitmap.currentStreak());
+        assertEquals(221, bitmap.count());
+        assertTrue(bitmap.isCompleted(START.plusDays(200)));
+        assertFalse(bitmap.isCompleted(START.plusDays(201)));
+        assertFalse(bitmap.isCompleted(START.minusDays(1)));
+    }
+
+    @Test
+    void bitmapShouldMatchPlainComputationOnRandomHistories() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            TreeSet<LocalDate> dates = new TreeSet<>();
+            int days = 1 + random.nextInt(400);
+            double density = random.nextDouble();
+            for (int day = 0; day < days; day++) {
+                if (random.nextDouble() < density) {
+                    dates.add(START.plusDays(day));
+                }
+            }
+
+            CompletionBitmap bitmap = CompletionBitmap.of(dates);
+
+            int longest = 0;
+            int current = 0;
+            LocalDate previous = null;
+            for (LocalDate date : dates) {
+                current = previous != null && previous.plusDays(1).equals(date) ? current + 1 : 1;
+                longest = Math.max(longest, current);
+                previous = date;
+            }
+            assertEquals(dates.size(), bitmap.count());
+            assertEquals(longest, bitmap.longestStreak());
+            assertEquals(current, bitmap.currentStreak());
+            assertEquals(new ArrayList<>(dates.descendingSet()), bitmap.datesDescending());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.calendar;
+
+import com.alexandros.dailycompanion.catalog.SaintCatalog;
+import com.alexandros.dailycompanion.catalog.SaintCatalogSnapshot;
+import com.alexandros.dailycompanion.dto.LiturgicalDayDto;
+import com.alexandros.dailycompanion.enums.LiturgicalSeason;
+import com.alexandros.dailycompanion.model.Saint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LiturgicalCalendarTest {
+
+    @Mock
+    SaintCatalog saintCatalog;
+
+    @Test
+    void getMonthShouldMergeMovableFeastsWithSaints() {
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(
+                saint("St. Mark", MonthDay.of(4, 25)),
+                saint("St. Oswald", MonthDay.of(2, 29)))));
+        LiturgicalCalendar calendar = new LiturgicalCalendar(saintCatalog);
+
+        List<LiturgicalDayDto> april = calendar.getMonth(2025, 4);
+        assertEquals(30, april.size());
+        LiturgicalDayDto easter = april.get(19);
+        assertEquals(LocalDate.of(2025, 4, 20), easter.date());
+        assertEquals(LiturgicalSeason.EASTER, easter.season());
+        assertEquals(List.of("Easter Sunday of the Resurrection of the Lord"), easter.celebrations());
+        assertEquals(List.of("St. Mark"), april.get(24).saints());
+
+        assertEquals(List.of("St. Oswald"), calendar.getMonth(2025, 2).get(27).saints());
+        assertEquals(29, calendar.getMonth(2028, 2).size());
+        assertThrows(IllegalArgumentException.class, () -> calendar.getMonth(2025, 13));
+    }
+
+    @Test
+    void getMonthShouldReuseYearTableUntilCatalogChanges() {
+        SaintCatalogSnapshot first = SaintCatalogSnapshot.of(1, List.of());
+        SaintCatalogSnapshot second = SaintCatalogSnapshot.of(2, List.of(saint("St. Nicholas", MonthDay.of(12, 6))));
+        when(saintCatalog.snapshot()).thenReturn(first, first, first, second);
+        LiturgicalCalendar calendar = new LiturgicalCalendar(saintCatalog,
+                Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC));
+
+        calendar.precompute();
+        List<LiturgicalDayDto> cached = calendar.getMonth(2025, 12);
+        List<LiturgicalDayDto> rebuilt = calendar.getMonth(2025, 12);
+
+        assertTrue(cached.get(5).saints().isEmpty());
+        assertEquals(List.of("St. Nicholas"), rebuilt.get(5).saints());
+    }
+
+    private static Saint saint(String name, MonthDay feastDay) {
+        Saint saint = new Saint();
+        saint.setId(UUID.randomUUID());
+        saint.setName(name);
+        saint.setFeastDay(feastDay);
+        return saint;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.calendar;
+
+import com.alexandros.dailycompanion.enums.LiturgicalSeason;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovableFeastsTest {
+
+    @Test
+    void easterSundayShouldMatchKnownDates() {
+        assertEquals(LocalDate.of(2024, 3, 31), MovableFeasts.easterSunday(2024));
+        assertEquals(LocalDate.of(2025, 4, 20), MovableFeasts.easterSunday(2025));
+        assertEquals(LocalDate.of(2026, 4, 5), MovableFeasts.easterSunday(2026));
+        assertEquals(LocalDate.of(2038, 4, 25), MovableFeasts.easterSunday(2038));
+        assertEquals(LocalDate.of(2285, 3, 22), MovableFeasts.easterSunday(2285));
+    }
+
+    @Test
+    void celebrationsOnShouldNameMovableFeastsAndSundays() {
+        MovableFeasts year = MovableFeasts.of(2025);
+
+        assertEquals(List.of("The Baptism of the Lord"), year.celebrationsOn(LocalDate.of(2025, 1, 12)));
+        assertEquals(List.of("Second Sunday in Ordinary Time"), year.celebrationsOn(LocalDate.of(2025, 1, 19)));
+        assertEquals(List.of("Ash Wednesday"), year.celebrationsOn(LocalDate.of(2025, 3, 5)));
+        assertEquals(List.of("First Sunday of Lent"), year.celebrationsOn(LocalDate.of(2025, 3, 9)));
+        assertEquals(List.of("Third Sunday of Easter"), year.celebrationsOn(LocalDate.of(2025, 5, 4)));
+        assertEquals(List.of("The Ascension of the Lord"), year.celebrationsOn(LocalDate.of(2025, 5, 29)));
+        assertEquals(List.of("Pentecost Sunday"), year.celebrationsOn(LocalDate.of(2025, 6, 8)));
+        assertEquals(List.of("Twelfth Sunday in Ordinary Time"), year.celebrationsOn(LocalDate.of(2025, 6, 22)));
+        assertEquals(List.of("Thirty-Third Sunday in Ordinary Time"), year.celebrationsOn(LocalDate.of(2025, 11, 16)));
+        assertEquals(List.of("Our Lord Jesus Christ, King of the Universe"), year.celebrationsOn(LocalDate.of(2025, 11, 23)));
+        assertEquals(List.of("First Sunday of Advent"), year.celebrationsOn(LocalDate.of(2025, 11, 30)));
+        assertEquals(List.of("The Holy Family of Jesus, Mary and Joseph"), year.celebrationsOn(LocalDate.of(2025, 12, 28)));
+        assertTrue(year.celebrationsOn(LocalDate.of(2025, 7, 15)).isEmpty());
+    }
+
+    @Test
+    void holyFamilyShouldMoveToDecember30WhenChristmasIsSunday() {
+        assertEquals(List.of("The Holy Family of Jesus, Mary and Joseph"),
+                MovableFeasts.of(2022).celebrationsOn(LocalDate.of(2022, 12, 30)));
+    }
+
+    @Test
+    void secondSundayAfterNativityShouldSkipJanuary1And6() {
+        assertTrue(MovableFeasts.of(2023).celebrationsOn(LocalDate.of(2023, 1, 1)).isEmpty());
+        assertTrue(MovableFeasts.of(2019).celebrationsOn(LocalDate.of(2019, 1, 6)).isEmpty());
+        assertEquals(List.of("Second Sunday after the Nativity"),
+                MovableFeasts.of(2026).celebrationsOn(LocalDate.of(2026, 1, 4)));
+    }
+
+    @Test
+    void seasonOfShouldFollowTheLiturgicalYear() {
+        MovableFeasts year = MovableFeasts.of(2025);
+
+        assertEquals(LiturgicalSeason.CHRISTMAS, year.seasonOf(LocalDate.of(2025, 1, 12)));
+        assertEquals(LiturgicalSeason.ORDINARY_TIME, year.seasonOf(LocalDate.of(2025, 1, 13)));
+        assertEquals(LiturgicalSeason.LENT, year.seasonOf(LocalDate.of(2025, 3, 5)));
+        assertEquals(LiturgicalSeason.PASCHAL_TRIDUUM, year.seasonOf(LocalDate.of(2025, 4, 18)));
+        assertEquals(LiturgicalSeason.EASTER, year.seasonOf(LocalDate.of(2025, 6, 8)));
+        assertEquals(LiturgicalSeason.ORDINARY_TIME, year.seasonOf(LocalDate.of(2025, 6, 9)));
+        assertEquals(LiturgicalSeason.ADVENT, year.seasonOf(LocalDate.of(2025, 12, 24)));
+        assertEquals(LiturgicalSeason.CHRISTMAS, year.seasonOf(LocalDate.of(2025, 12, 25)));
+    }
+
+    @Test
+    void ofShouldRejectYearsOutsideGregorianRange() {
+        assertThrows(IllegalArgumentException.class, () -> MovableFeasts.of(1500));
+        assertThrows(IllegalArgumentException.class, () -> MovableFeasts.of(10000));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.alexandros.dailycompanion.dto.SaintListDto;
+import com.alexandros.dailycompanion.dto.UpcomingFeastDto;
+import com.alexandros.dailycompanion.model.Saint;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaintCatalogSnapshotTest {
+
+    @Test
+    void getUpcomingFeastsShouldWrapAroundNewYear() {
+        SaintCatalogSnapshot snapshot = SaintCatalogSnapshot.of(1, List.of(
+                saint("St. Stephen", MonthDay.of(12, 26)),
+                saint("Mary, Mother of God", MonthDay.of(1, 1)),
+                saint("St. Basil", MonthDay.of(1, 2))));
+
+        List<UpcomingFeastDto> feasts = snapshot.getUpcomingFeasts(LocalDate.of(2025, 12, 26), 3);
+
+        assertEquals(List.of(LocalDate.of(2025, 12, 26), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2)),
+                feasts.stream().map(UpcomingFeastDto::date).toList());
+        assertEquals("St. Stephen", feasts.get(0).saints().get(0).name());
+    }
+
+    @Test
+    void getUpcomingFeastsShouldMoveFebruary29ToFebruary28InCommonYears() {
+        SaintCatalogSnapshot snapshot = SaintCatalogSnapshot.of(1, List.of(
+                saint("St. Oswald", MonthDay.of(2, 29)),
+                saint("St. David", MonthDay.of(3, 1))));
+
+        List<UpcomingFeastDto> common = snapshot.getUpcomingFeasts(LocalDate.of(2025, 2, 1), 2);
+        assertEquals(LocalDate.of(2025, 2, 28), common.get(0).date());
+        assertEquals("St. Oswald", common.get(0).saints().get(0).name());
+        assertEquals(LocalDate.of(2025, 3, 1), common.get(1).date());
+
+        List<UpcomingFeastDto> leap = snapshot.getUpcomingFeasts(LocalDate.of(2028, 2, 28), 1);
+        assertEquals(LocalDate.of(2028, 2, 29), leap.get(0).date());
+    }
+
+    @Test
+    void getUpcomingFeastsShouldMergeFebruary29IntoExistingFebruary28Feast() {
+        SaintCatalogSnapshot snapshot = SaintCatalogSnapshot.of(1, List.of(
+                saint("St. Romanus", MonthDay.of(2, 28)),
+                saint("St. Oswald", MonthDay.of(2, 29))));
+
+        List<UpcomingFeastDto> feasts = snapshot.getUpcomingFeasts(LocalDate.of(2027, 2, 28), 5);
+
+        assertEquals(1, feasts.size());
+        assertEquals(List.of("St. Romanus", "St. Oswald"),
+                feasts.get(0).saints().stream().map(SaintListDto::name).toList());
+    }
+
+    @Test
+    void getUpcomingFeastsShouldStopAfterOneYear() {
+        SaintCatalogSnapshot snapshot = SaintCatalogSnapshot.of(1, List.of(saint("St. Francis", MonthDay.of(10, 4))));
+
+        assertEquals(1, snapshot.getUpcomingFeasts(LocalDate.of(2025, 10, 4), 10).size());
+        assertTrue(SaintCatalogSnapshot.of(1, List.of()).getUpcomingFeasts(LocalDate.of(2025, 1, 1), 10).isEmpty());
+    }
+
+    @Test
+    void saintListShouldCarryImagePlaceholders() {
+        Saint agatha = saint("St. Agatha", MonthDay.of(2, 5));
+        agatha.setImageUrl("/images/saint_agatha.jpg");
+        agatha.setImageBlurHash("LEHV6nWB2yk8pyo0adR*.7kCMdnj");
+        agatha.setImageColor("#6f5a4a");
+        agatha.setImageWidth(800);
+        agatha.setImageHeight(1000);
+        Saint blaise = saint("St. Blaise", MonthDay.of(2, 3));
+
+        SaintCatalogSnapshot snapshot = SaintCatalogSnapshot.of(1, List.of(agatha, blaise));
+
+        SaintListDto item = snapshot.getSaintList().get(0);
+        assertEquals("/images/saint_agatha.jpg?w=160", item.imageUrl());
+        assertEquals("LEHV6nWB2yk8pyo0adR*.7kCMdnj", item.imageBlurHash());
+        assertEquals("#6f5a4a", item.imageColor());
+        assertEquals(800, item.imageWidth());
+        assertEquals(1000, item.imageHeight());
+        assertNull(snapshot.getSaintList().get(1).imageBlurHash());
+    }
+
+    @Test
+    void findSimilarShouldRankSaintsBySharedTextAndSkipUnrelatedOnes() {
+        Saint isidore = saint("St. Isidore the Farmer", MonthDay.of(5, 15));
+        isidore.setBiography("A farmer who prayed while working the fields near Madrid.");
+        isidore.setPatronage("Farmers, farm workers, rural communities");
+        Saint fiacre = saint("St. Fiacre", MonthDay.of(8, 30));
+        fiacre.setBiography("A hermit who worked the fields and grew healing herbs in his garden.");
+        fiacre.setPatronage("Gardeners, farmers, taxi drivers");
+        Saint walstan = saint("St. Walstan", MonthDay.of(5, 30));
+        walstan.setBiography("A farm labourer who gave away his food.");
+        walstan.setPatronage("Farm workers");
+        Saint cecilia = saint("St. Cecilia", MonthDay.of(11, 22));
+        cecilia.setBiography("A Roman martyr who sang to God in her heart.");
+        cecilia.setPatronage("Musicians, singers, poets");
+
+        SaintCatalogSnapshot snapshot = SaintCatalogSnapshot.of(1, List.of(isidore, fiacre, walstan, cecilia));
+
+        List<String> similar = snapshot.findSimilar(isidore.getId(), 5).stream().map(SaintListDto::name).toList();
+        assertEquals(List.of("St. Walstan", "St. Fiacre"), similar);
+        assertEquals(1, snapshot.findSimilar(isidore.getId(), 1).size());
+        assertTrue(snapshot.findSimilar(cecilia.getId(), 5).isEmpty());
+        assertTrue(snapshot.findSimilar(UUID.randomUUID(), 5).isEmpty());
+    }
+
+    private static Saint saint(String name, MonthDay feastDay) {
+        Saint saint = new Saint();
+        saint.setId(UUID.randomUUID());
+        saint.setName(name);
+        saint.setFeastDay(feastDay);
+        return saint;
+    }
+}
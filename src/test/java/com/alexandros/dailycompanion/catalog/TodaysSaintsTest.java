@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.catalog;
+
+import com.alexandros.dailycompanion.dto.SaintListDto;
+import com.alexandros.dailycompanion.model.Saint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TodaysSaintsTest {
+
+    // 2025-10-04 23:30 UTC: already October 5 east of UTC+00:30, still October 4 in UTC and westwards
+    private static final Instant NOW = Instant.parse("2025-10-04T23:30:00Z");
+
+    @Mock
+    SaintCatalog saintCatalog;
+
+    private SaintCatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = SaintCatalogSnapshot.of(1, List.of(
+                saint("St Francis", MonthDay.of(10, 4)),
+                saint("St Faustina", MonthDay.of(10, 5))));
+    }
+
+    @Test
+    void getSaintListShouldUseLocalDateOfClientZone() {
+        when(saintCatalog.snapshot()).thenReturn(snapshot);
+        TodaysSaints todaysSaints = new TodaysSaints(saintCatalog, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertEquals(List.of("St Francis"), names(todaysSaints.getSaintList(ZoneId.of("America/New_York"))));
+        assertEquals(List.of("St Francis"), names(todaysSaints.getSaintList(ZoneOffset.UTC)));
+        assertEquals(List.of("St Faustina"), names(todaysSaints.getSaintList(ZoneId.of("Europe/Athens"))));
+        assertEquals(List.of("St Faustina"), names(todaysSaints.getSaintList(ZoneId.of("Asia/Kathmandu"))));
+    }
+
+    @Test
+    void rolloverShouldPrecomputeEveryOffsetAndReuseEntries() {
+        when(saintCatalog.snapshot()).thenReturn(snapshot);
+        TodaysSaints todaysSaints = new TodaysSaints(saintCatalog, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        todaysSaints.rollover();
+        List<SaintListDto> first = todaysSaints.getSaintList(ZoneId.of("Asia/Tokyo"));
+        List<SaintListDto> second = todaysSaints.getSaintList(ZoneId.of("Asia/Seoul"));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void getSaintsShouldRebuildAfterCatalogUpdate() {
+        SaintCatalogSnapshot updated = SaintCatalogSnapshot.of(2, List.of(saint("St Therese", MonthDay.of(10, 4))));
+        when(saintCatalog.snapshot()).thenReturn(snapshot, updated);
+        TodaysSaints todaysSaints = new TodaysSaints(saintCatalog, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertEquals("St Francis", todaysSaints.getSaints(ZoneOffset.UTC).get(0).name());
+        assertEquals("St Therese", todaysSaints.getSaints(ZoneOffset.UTC).get(0).name());
+    }
+
+    @Test
+    void getSaintListShouldIncludeLeapDaySaintsOnFebruary28OfCommonYears() {
+        SaintCatalogSnapshot leapDay = SaintCatalogSnapshot.of(1, List.of(
+                saint("St Oswald", MonthDay.of(2, 29)),
+                saint("St Romanus", MonthDay.of(2, 28))));
+        when(saintCatalog.snapshot()).thenReturn(leapDay);
+        TodaysSaints todaysSaints = new TodaysSaints(saintCatalog,
+                Clock.fixed(Instant.parse("2025-02-28T12:00:00Z"), ZoneOffset.UTC));
+
+        assertEquals(List.of("St Romanus", "St Oswald"), names(todaysSaints.getSaintList(ZoneOffset.UTC)));
+    }
+
+    private static Saint saint(String name, MonthDay feastDay) {
+        Saint saint = new Saint();
+        saint.setId(UUID.randomUUID());
+        saint.setName(name);
+        saint.setFeastDay(feastDay);
+        return saint;
+    }
+
+    private static List<String> names(List<SaintListDto> saints) {
+        return saints.stream().map(SaintListDto::name).toList();
+    }
+}
@@ -6,7 +6,9 @@
 
 package com.alexandros.dailycompanion.controller;
 
+import com.alexandros.dailycompanion.dto.CursorSlice;
 import com.alexandros.dailycompanion.dto.JournalEntryDto;
+import com.alexandros.dailycompanion.dto.JournalEntryLiteDto;
 import com.alexandros.dailycompanion.dto.JournalEntryRequest;
 import com.alexandros.dailycompanion.dto.JournalEntryUpdateRequest;
 import com.alexandros.dailycompanion.dto.PageResponse;
@@ -28,7 +30,10 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -89,6 +94,23 @@ class JournalEntryControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("My Title"));
     }*/
 
+    @Test
+    void getAllJournalEntries_withCursor_shouldUseKeysetPage() throws Exception {
+        JournalEntryLiteDto lite = new JournalEntryLiteDto(journalEntryDto.id(), LocalDate.now(), LocalDate.now(), "My Title");
+        when(journalEntryService.getJournalEntriesForUserAfter("", 5, "desc"))
+                .thenReturn(new CursorSlice<>(List.of(lite), "next"));
+
+        mockMvc.perform(get("/api/v1/journal-entry")
+                        .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("My Title"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.totalElements").value(-1))
+                .andExpect(jsonPath("$.last").value(false));
+
+        verify(journalEntryService, never()).getAllJournalEntriesForUser(anyInt(), anyInt(), any());
+    }
+
     @Test
     void getEntryById_success() throws Exception {
         when(journalEntryService.getEntryById(journalEntryDto.id())).thenReturn(journalEntryDto);
@@ -6,7 +6,11 @@
 
 package com.alexandros.dailycompanion.controller;
 
+import com.alexandros.dailycompanion.dto.RosaryCalendarDto;
 import com.alexandros.dailycompanion.dto.RosaryLogDto;
+import com.alexandros.dailycompanion.dto.RosaryMonthDto;
+import com.alexandros.dailycompanion.dto.RosaryStatsDto;
+import com.alexandros.dailycompanion.dto.RosarySyncDto;
 import com.alexandros.dailycompanion.model.User;
 import com.alexandros.dailycompanion.service.RosaryLogService;
 import com.alexandros.dailycompanion.service.ServiceHelper;
@@ -16,15 +20,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,6 +76,21 @@ class RosaryLogControllerTest {
                 .andExpect(jsonPath("$.id").value(logDto.id().toString()));
     }
 
+    @Test
+    void syncCompletions_success() throws Exception {
+        List<LocalDate> dates = List.of(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 2));
+        when(rosaryLogService.syncCompletions(eq(userId), eq(dates), any()))
+                .thenReturn(new RosarySyncDto(2, 2, new RosaryStatsDto(2, 5, LocalDate.of(2025, 3, 2), 12)));
+
+        mockMvc.perform(post("/api/v1/rosary/{userId}/sync", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dates\": [\"2025-03-01\", \"2025-03-02\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.newlyCompleted").value(2))
+                .andExpect(jsonPath("$.stats.currentStreak").value(2))
+                .andExpect(jsonPath("$.stats.totalCompleted").value(12));
+    }
+
     @Test
     void isCompletedToday_success() throws Exception {
         when(rosaryLogService.isCompletedToday(userId)).thenReturn(true);
@@ -106,6 +128,33 @@ class RosaryLogControllerTest {
                 .andExpect(content().string("3"));
     }
 
+    @Test
+    void getMonthlyCalendar_success() throws Exception {
+        when(rosaryLogService.getMonthlyCalendar(userId, YearMonth.of(2025, 1), YearMonth.of(2025, 2)))
+                .thenReturn(List.of(new RosaryMonthDto(YearMonth.of(2025, 1), 5, 2),
+                        new RosaryMonthDto(YearMonth.of(2025, 2), 0, 0)));
+
+        mockMvc.perform(get("/api/v1/rosary/{userId}/calendar/months", userId)
+                        .param("from", "2025-01")
+                        .param("to", "2025-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].month").value("2025-01"))
+                .andExpect(jsonPath("$[0].days").value(5))
+                .andExpect(jsonPath("$[0].completed").value(2))
+                .andExpect(jsonPath("$[1].completed").value(0));
+    }
+
+    @Test
+    void getCompletionCalendar_success() throws Exception {
+        when(rosaryLogService.getCompletionCalendar(userId)).thenReturn(new RosaryCalendarDto(20000, 3, "BQ=="));
+
+        mockMvc.perform(get("/api/v1/rosary/{userId}/calendar", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.originEpochDay").value(20000))
+                .andExpect(jsonPath("$.days").value(3))
+                .andExpect(jsonPath("$.bitmap").value("BQ=="));
+    }
+
     /*@Test
     void getRosaryDates_success() throws Exception {
         when(rosaryLogService.getCompletedDates(userId)).thenReturn(List.of(LocalDate.now()));
@@ -6,6 +6,7 @@
 
 package com.alexandros.dailycompanion.controller;
 
+import com.alexandros.dailycompanion.catalog.SerializedResponse;
 import com.alexandros.dailycompanion.dto.*;
 import com.alexandros.dailycompanion.repository.UserRepository;
 import com.alexandros.dailycompanion.service.SaintService;
@@ -28,9 +29,13 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.MonthDay;
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -87,6 +92,17 @@ class SaintControllerTest {
                 .andExpect(jsonPath("$.id").value(saintId.toString()));
     }
 
+    @Test
+    void getSaint_withFields_shouldReturnProjection() throws Exception {
+        when(saintService.getSaint(saintId, "id,name")).thenReturn(Map.of("id", saintId, "name", "St. Peter"));
+
+        mockMvc.perform(get("/api/v1/saint/{saintId}", saintId).param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("St. Peter"))
+                .andExpect(jsonPath("$.biography").doesNotExist());
+        verify(saintService, never()).getSaint(saintId);
+    }
+
     @Test
     void getSaint_notFound_shouldReturn404() throws Exception {
         UUID invalidId = UUID.randomUUID();
@@ -209,4 +225,96 @@ class SaintControllerTest {
         mockMvc.perform(delete("/api/v1/saint/{saintId}", invalidId))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void getAllFeastDays_shouldServeCachedJsonWithEtag() throws Exception {
+        SerializedResponse response = new SerializedResponse("{\"10-02\":[\"St. Peter\"]}".getBytes(), new byte[]{1, 2}, "\"abc\"", "\"abc-gzip\"");
+        when(saintService.getAllFeastDaysSerialized()).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/saint/feast"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(jsonPath("$['10-02'][0]").value("St. Peter"));
+    }
+
+    @Test
+    void getAllFeastDays_matchingEtag_shouldReturn304() throws Exception {
+        SerializedResponse response = new SerializedResponse("{}".getBytes(), new byte[]{1, 2}, "\"abc\"", "\"abc-gzip\"");
+        when(saintService.getAllFeastDaysSerialized()).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/saint/feast").header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getSaintsByMonth_acceptingGzip_shouldServeCompressedVariant() throws Exception {
+        SerializedResponse response = new SerializedResponse("{}".getBytes(), new byte[]{1, 2}, "\"abc\"", "\"abc-gzip\"");
+        when(saintService.getSaintsByMonthSerialized(2025, 10)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/saint/month/{year}/{month}", 2025, 10).header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"abc-gzip\""))
+                .andExpect(content().bytes(new byte[]{1, 2}));
+    }
+
+    @Test
+    void getSaintsByMonth_refusingGzip_shouldServePlainVariant() throws Exception {
+        SerializedResponse response = new SerializedResponse("{}".getBytes(), new byte[]{1, 2}, "\"abc\"", "\"abc-gzip\"");
+        when(saintService.getSaintsByMonthSerialized(2025, 10)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/saint/month/{year}/{month}", 2025, 10).header("Accept-Encoding", "gzip;q=0, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(content().bytes("{}".getBytes()));
+    }
+
+    @Test
+    void acceptsGzip_shouldHonourQValues() {
+        assertTrue(SaintController.acceptsGzip("gzip"));
+        assertTrue(SaintController.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(SaintController.acceptsGzip("br, *;q=0.1"));
+        assertFalse(SaintController.acceptsGzip("gzip;q=0"));
+        assertFalse(SaintController.acceptsGzip("gzip; q=0.000"));
+        assertFalse(SaintController.acceptsGzip("*, gzip;q=0"));
+        assertFalse(SaintController.acceptsGzip("identity"));
+        assertFalse(SaintController.acceptsGzip(null));
+    }
+
+    @Test
+    void searchSaints_success() throws Exception {
+        SaintListDto saint = new SaintListDto(saintId, "St. Peter", MonthDay.of(10, 2), "image", null, null, null, null);
+        Page<SaintSearchDto> page = new PageImpl<>(List.of(new SaintSearchDto(saint, "patron of <b>fishermen</b>", 0.5)), PageRequest.of(0, 10), 1);
+        when(saintService.searchSaints("fishermen", 0, 10)).thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/saint/search").param("q", "fishermen"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].saint.id").value(saintId.toString()))
+                .andExpect(jsonPath("$.content[0].snippet").value("patron of <b>fishermen</b>"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void getSaintsByPatronage_success() throws Exception {
+        SaintListDto saint = new SaintListDto(saintId, "St. Peter", MonthDay.of(10, 2), "image", null, null, null, null);
+        when(saintService.getSaintsByPatronage(List.of("fishermen", "popes"), false)).thenReturn(List.of(saint));
+
+        mockMvc.perform(get("/api/v1/saint/patronage").param("terms", "fishermen", "popes").param("match", "any"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(saintId.toString()));
+    }
+
+    @Test
+    void getSaints_shouldReturnFoundAndMissingIds() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        when(saintService.getSaints(List.of(saintId.toString(), missingId.toString())))
+                .thenReturn(new SaintBatchDto(List.of(saintDto), List.of(missingId)));
+
+        mockMvc.perform(get("/api/v1/saint/batch").param("ids", saintId + "," + missingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.saints[0].name").value(saintDto.name()))
+                .andExpect(jsonPath("$.missing[0]").value(missingId.toString()));
+    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthDayConverterTest {
+
+    private final MonthDayConverter converter = new MonthDayConverter();
+
+    @Test
+    void convertToDatabaseColumnShouldUseDayOfLeapYear() {
+        assertEquals((short) 1, converter.convertToDatabaseColumn(MonthDay.of(1, 1)));
+        assertEquals((short) 60, converter.convertToDatabaseColumn(MonthDay.of(2, 29)));
+        assertEquals((short) 61, converter.convertToDatabaseColumn(MonthDay.of(3, 1)));
+        assertEquals((short) 366, converter.convertToDatabaseColumn(MonthDay.of(12, 31)));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    void conversionShouldRoundTripAndKeepCalendarOrder() {
+        short previous = 0;
+        for (LocalDate date = LocalDate.of(2000, 1, 1); date.getYear() == 2000; date = date.plusDays(1)) {
+            MonthDay monthDay = MonthDay.from(date);
+            short stored = converter.convertToDatabaseColumn(monthDay);
+
+            assertTrue(stored > previous);
+            assertEquals(monthDay, converter.convertToEntityAttribute(stored));
+            previous = stored;
+        }
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
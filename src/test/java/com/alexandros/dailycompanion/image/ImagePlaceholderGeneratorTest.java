@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImagePlaceholderGeneratorTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private HashedImageStore hashedImageStore;
+    private ImagePlaceholderGenerator placeholderGenerator;
+
+    @BeforeEach
+    void setUp() {
+        hashedImageStore = new HashedImageStore(cacheDir.toString());
+        placeholderGenerator = new ImagePlaceholderGenerator(hashedImageStore);
+    }
+
+    @Test
+    void encodeShouldMatchReferenceForSolidColor() {
+        BufferedImage black = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+
+        String hash = BlurHash.encode(black, 4, 3);
+
+        assertEquals("L00000fQfQfQfQfQfQfQfQfQfQfQ", hash);
+        assertEquals("#000000", BlurHash.averageColor(hash));
+    }
+
+    @Test
+    void placeholderShouldReflectAverageColor() {
+        BufferedImage image = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 40, 20);
+        graphics.dispose();
+
+        ImagePlaceholder placeholder = ImagePlaceholderGenerator.placeholderOf(image, 400, 200);
+
+        assertEquals(28, placeholder.blurHash().length());
+        assertEquals("#ff0000", placeholder.color());
+        assertEquals(400, placeholder.width());
+        assertEquals(200, placeholder.height());
+    }
+
+    @Test
+    void generateShouldReadIntrinsicSizeOfStoredImage() throws Exception {
+        String url = hashedImageStore.hashedUrl("/images/archangel_gabriel.jpg");
+        BufferedImage original = ImageIO.read(hashedImageStore.findByUrl(url).orElseThrow().path().toFile());
+
+        ImagePlaceholder placeholder = placeholderGenerator.generate(url).orElseThrow();
+
+        assertEquals(original.getWidth(), placeholder.width());
+        assertEquals(original.getHeight(), placeholder.height());
+        assertTrue(placeholder.color().matches("#[0-9a-f]{6}"));
+        assertSame(placeholder, placeholderGenerator.generate("/images/archangel_gabriel.jpg").orElseThrow());
+    }
+
+    @Test
+    void generateShouldSkipExternalAndUnknownImages() {
+        assertTrue(placeholderGenerator.generate("http://picture.com/a.jpg").isEmpty());
+        assertTrue(placeholderGenerator.generate("/images/missing.jpg").isEmpty());
+        assertTrue(placeholderGenerator.generate(null).isEmpty());
+    }
+}
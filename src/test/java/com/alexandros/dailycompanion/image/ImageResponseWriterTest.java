@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageResponseWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private final ImageResponseWriter writer = new ImageResponseWriter();
+    private ServedImage image;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = dir.resolve("image.jpg");
+        Files.writeString(file, "0123456789");
+        image = new ServedImage(file, "image/jpeg", "\"abc\"", true, false);
+    }
+
+    @Test
+    void writeShouldSendWholeFileWithImmutableCaching() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(image, new MockHttpServletRequest("GET", "/images/image.jpg"), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals("\"abc\"", response.getHeader("ETag"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertTrue(response.getHeader("Cache-Control").contains("immutable"));
+        assertTrue(response.getHeader("Cache-Control").contains("max-age=31536000"));
+    }
+
+    @Test
+    void writeShouldReturnNotModifiedForMatchingEtag() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/image.jpg");
+        request.addHeader("If-None-Match", "\"other\", \"abc\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(image, request, response);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void writeShouldServeSingleByteRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/image.jpg");
+        request.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(image, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("2345", response.getContentAsString());
+        assertEquals("bytes 2-5/10", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void writeShouldRejectUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/image.jpg");
+        request.addHeader("Range", "bytes=20-30");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(image, request, response);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void writeShouldHandOffToSendfileWhenSupported() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/image.jpg");
+        request.setAttribute(ImageResponseWriter.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader("Range", "bytes=-3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(image, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(3, response.getContentLengthLong());
+        assertEquals(image.file().toAbsolutePath().toString(), request.getAttribute(ImageResponseWriter.SENDFILE_FILENAME));
+        assertEquals(7L, request.getAttribute(ImageResponseWriter.SENDFILE_START));
+        assertEquals(10L, request.getAttribute(ImageResponseWriter.SENDFILE_END));
+    }
+}
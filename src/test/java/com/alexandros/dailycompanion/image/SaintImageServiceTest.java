@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.image;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaintImageServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private HashedImageStore hashedImageStore;
+    private SaintImageService saintImageService;
+
+    @BeforeEach
+    void setUp() {
+        hashedImageStore = new HashedImageStore(cacheDir.toString());
+        saintImageService = new SaintImageService(hashedImageStore);
+    }
+
+    @Test
+    void hashedUrlShouldRewriteLocalImagesOnly() {
+        String hashed = hashedImageStore.hashedUrl("/images/archangel_gabriel.jpg");
+        String stale = hashedImageStore.hashedUrl("/images/archangel_gabriel.0000000000000000.jpg");
+
+        assertTrue(hashed.matches("/images/archangel_gabriel\\.[0-9a-f]{16}\\.jpg"));
+        assertEquals(hashed, stale);
+        assertEquals(hashed, hashedImageStore.hashedUrl(hashed));
+        assertEquals("http://picture.com", hashedImageStore.hashedUrl("http://picture.com"));
+        assertEquals("/images/missing.jpg", hashedImageStore.hashedUrl("/images/missing.jpg"));
+    }
+
+    @Test
+    void getImageByHashedNameShouldBeImmutable() {
+        String hashedName = hashedImageStore.find("archangel_gabriel.jpg").orElseThrow().hashedName();
+
+        ServedImage hashed = saintImageService.getImage(hashedName, null, "image/webp,*/*");
+        ServedImage plain = saintImageService.getImage("archangel_gabriel.jpg", null, null);
+
+        assertTrue(hashed.immutable());
+        assertFalse(plain.immutable());
+        assertEquals("image/jpeg", hashed.mediaType());
+        assertEquals(hashed.file(), plain.file());
+        assertTrue(hashed.file().startsWith(cacheDir));
+    }
+
+    @Test
+    void getImageWithWidthShouldGenerateAndReuseThumbnail() throws Exception {
+        ServedImage first = saintImageService.getImage("archangel_gabriel.jpg", 120, null);
+        ServedImage second = saintImageService.getImage("archangel_gabriel.jpg", 160, null);
+
+        assertEquals("image/jpeg", first.mediaType());
+        assertTrue(first.negotiated());
+        assertEquals(first.file(), second.file());
+        assertEquals(first.etag(), second.etag());
+        try (InputStream in = Files.newInputStream(first.file())) {
+            BufferedImage thumbnail = ImageIO.read(in);
+            assertEquals(ImageVariant.THUMBNAIL.getWidth(), thumbnail.getWidth());
+        }
+    }
+
+    @Test
+    void concurrentRequestsShouldShareOneDerivative() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ServedImage>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> saintImageService.getImage("archangel_gabriel.jpg", 320, "image/jpeg")));
+            }
+            Path file = results.get(0).get().file();
+            for (Future<ServedImage> result : results) {
+                assertEquals(file, result.get().file());
+            }
+            try (Stream<Path> files = Files.list(file.getParent())) {
+                assertEquals(List.of(file), files.toList());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getImageShouldRejectUnknownOrUnsafeNames() {
+        assertThrows(EntityNotFoundException.class, () -> saintImageService.getImage("missing.jpg", null, null));
+        assertThrows(EntityNotFoundException.class, () -> saintImageService.getImage("../application.properties", null, null));
+    }
+
+    @Test
+    void negotiateShouldIgnoreWildcardsAndFallBackToJpeg() {
+        assertEquals(ImageFormat.JPEG, saintImageService.negotiate("*/*"));
+        assertEquals(ImageFormat.JPEG, saintImageService.negotiate("image/*"));
+        assertEquals(ImageFormat.JPEG, saintImageService.negotiate(null));
+    }
+
+    @Test
+    void urlForShouldOnlyRewriteLocalImages() {
+        assertEquals("/images/saint_francis.jpg?w=160", ImageVariant.THUMBNAIL.urlFor("/images/saint_francis.jpg"));
+        assertEquals("http://picture.com", ImageVariant.THUMBNAIL.urlFor("http://picture.com"));
+        assertNull(ImageVariant.forWidth(2000));
+        assertThrows(IllegalArgumentException.class, () -> ImageVariant.forWidth(0));
+    }
+}
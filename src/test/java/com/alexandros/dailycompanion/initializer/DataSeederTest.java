@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.initializer;
+
+import com.alexandros.dailycompanion.image.HashedImageStore;
+import com.alexandros.dailycompanion.repository.SaintBatchRepository;
+import com.alexandros.dailycompanion.repository.SaintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataSeederTest {
+
+    @Mock
+    SaintRepository saintRepository;
+
+    @Mock
+    HashedImageStore hashedImageStore;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    DataSeeder dataSeeder;
+
+    @BeforeEach
+    void setUp() {
+        dataSeeder = new DataSeeder(saintRepository, hashedImageStore, jdbcTemplate, new SaintBatchRepository(jdbcTemplate));
+    }
+
+    @Test
+    void syncSaintsShouldInsertAllSaintsOnFirstRunAndRecordHash() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of());
+        when(hashedImageStore.hashedUrl(any())).thenAnswer(i -> i.getArgument(0));
+
+        dataSeeder.syncSaints();
+
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(startsWith("INSERT INTO saints"), anyList(), anyInt(), any());
+        verify(jdbcTemplate, never()).batchUpdate(contains("UPDATE saints"), anyList(), anyInt(), any());
+        verify(jdbcTemplate).update(contains("INSERT INTO seed_state"), eq("data/saints.json"), anyString(), any());
+        verifyNoInteractions(saintRepository);
+    }
+
+    @Test
+    void syncSaintsShouldSkipUnchangedFile() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .thenAnswer(i -> List.of(currentHash()));
+
+        dataSeeder.syncSaints();
+
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class));
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verifyNoInteractions(hashedImageStore);
+    }
+
+    private static String currentHash() throws Exception {
+        try (InputStream in = DataSeederTest.class.getClassLoader().getResourceAsStream("data/saints.json")) {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(in.readAllBytes());
+            return HexFormat.of().formatHex(digest);
+        }
+    }
+}
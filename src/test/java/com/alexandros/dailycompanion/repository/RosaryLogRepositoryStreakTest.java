@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the native streak query of {@link RosaryLogRepository#computeStreaks(UUID)} against
+ * PostgreSQL and checks it against the Java loops it replaced. Skipped without Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RosaryLogRepositoryStreakTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosaryLogRepositoryStreakTest.class);
+    private static final int BENCHMARK_RUNS = 20;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static String streakSql;
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUpSchema() throws Exception {
+        streakSql = RosaryLogRepository.class.getMethod("computeStreaks", UUID.class)
+                .getAnnotation(Query.class).value()
+                .replace(":userId", "?");
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id uuid PRIMARY KEY)");
+            statement.execute("""
+                    CREATE TABLE rosary_logs (
+                        id uuid PRIMARY KEY,
+                        user_id uuid NOT NULL REFERENCES users (id),
+                        date date,
+                        completed boolean NOT NULL,
+                        UNIQUE (user_id, date)
+                    )
+                    """);
+            statement.execute("CREATE INDEX idx_rosary_logs_user_completed_date ON rosary_logs (user_id, completed, date)");
+
+            // Other users, so a scan of the whole table is clearly worse than the index
+            statement.execute("INSERT INTO users SELECT gen_random_uuid() FROM generate_series(1, 500)");
+            statement.execute("""
+                    INSERT INTO rosary_logs
+                    SELECT gen_random_uuid(), u.id, d::date, random() < 0.8
+                    FROM users u
+                    CROSS JOIN generate_series(DATE '2020-01-01', DATE '2024-12-31', INTERVAL '1 day') d
+                    """);
+        }
+    }
+
+    @Test
+    void computeStreaks_ShouldReturnZerosForEmptyHistory() throws Exception {
+        UUID userId = createUser(Map.of());
+
+        assertEquals(new Streaks(0, 0, null, 0), computeStreaks(userId));
+    }
+
+    @Test
+    void computeStreaks_ShouldCountSingleDay() throws Exception {
+        LocalDate day = LocalDate.of(2024, 5, 1);
+        UUID userId = createUser(Map.of(day, true));
+
+        assertEquals(new Streaks(1, 1, day, 1), computeStreaks(userId));
+    }
+
+    @Test
+    void computeStreaks_ShouldJoinRunsAcrossMonthAndYearEnds() throws Exception {
+        Map<LocalDate, Boolean> days = new HashMap<>();
+        for (LocalDate day = LocalDate.of(2023, 2, 27); !day.isAfter(LocalDate.of(2023, 3, 1)); day = day.plusDays(1)) {
+            days.put(day, true);
+        }
+        for (LocalDate day = LocalDate.of(2023, 12, 30); !day.isAfter(LocalDate.of(2024, 1, 2)); day = day.plusDays(1)) {
+            days.put(day, true);
+        }
+        UUID userId = createUser(days);
+
+        assertEquals(new Streaks(4, 4, LocalDate.of(2024, 1, 2), 7), computeStreaks(userId));
+    }
+
+    @Test
+    void computeStreaks_ShouldTakeCurrentStreakFromLatestRun() throws Exception {
+        Map<LocalDate, Boolean> days = new HashMap<>();
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        for (int i = 0; i < 5; i++) {
+            days.put(start.plusDays(i), true);
+        }
+        days.put(start.plusDays(10), true);
+        days.put(start.plusDays(11), true);
+        UUID userId = createUser(days);
+
+        assertEquals(new Streaks(2, 5, start.plusDays(11), 7), computeStreaks(userId));
+    }
+
+    @Test
+    void computeStreaks_ShouldIgnoreIncompleteDays() throws Exception {
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        UUID userId = createUser(Map.of(
+                start, true,
+                start.plusDays(1), false,
+                start.plusDays(2), true,
+                start.plusDays(3), true));
+
+        assertEquals(new Streaks(2, 2, start.plusDays(3), 3), computeStreaks(userId));
+    }
+
+    @Test
+    void computeStreaks_ShouldMatchJavaLoopsOnLongHistoryAndUseIndex() throws Exception {
+        Random random = new Random(42);
+        Map<LocalDate, Boolean> days = new HashMap<>();
+        for (LocalDate day = LocalDate.of(2005, 1, 1); day.isBefore(LocalDate.of(2025, 1, 1)); day = day.plusDays(1)) {
+            int roll = random.nextInt(100);
+            if (roll < 90) {
+                days.put(day, true);
+            } else if (roll < 95) {
+                days.put(day, false);
+            }
+        }
+        UUID userId = createUser(days);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE rosary_logs");
+        }
+
+        List<LocalDate> descending = loadCompletedDatesDesc(userId);
+        Streaks streaks = computeStreaks(userId);
+        assertEquals(currentStreakLoop(descending), streaks.currentStreak());
+        assertEquals(highestStreakLoop(descending), streaks.longestStreak());
+        assertEquals(descending.get(0), streaks.lastCompletedDate());
+        assertEquals(descending.size(), streaks.totalCompleted());
+
+        String plan = explain(userId);
+        logger.info("Streak query plan:\n{}", plan);
+        assertTrue(plan.contains("idx_rosary_logs_user_completed_date"), plan);
+
+        long loopNanos = benchmark(() -> {
+            // The replaced code loaded the completed logs once per counter
+            currentStreakLoop(loadCompletedDatesDesc(userId));
+            highestStreakLoop(loadCompletedDatesDesc(userId));
+        });
+        long queryNanos = benchmark(() -> computeStreaks(userId));
+        logger.info("Streaks over {} completed days: Java loops {} µs, window query {} µs (median of {} runs)",
+                descending.size(), loopNanos / 1_000, queryNanos / 1_000, BENCHMARK_RUNS);
+    }
+
+    @AfterAll
+    static void closeConnection() throws SQLException {
+        connection.close();
+    }
+
+    private static UUID createUser(Map<LocalDate, Boolean> days) throws SQLException {
+        UUID userId = UUID.randomUUID();
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO users (id) VALUES (?)")) {
+            statement.setObject(1, userId);
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO rosary_logs (id, user_id, date, completed) VALUES (?, ?, ?, ?)")) {
+            for (Map.Entry<LocalDate, Boolean> day : days.entrySet()) {
+                statement.setObject(1, UUID.randomUUID());
+                statement.setObject(2, userId);
+                statement.setObject(3, day.getKey());
+                statement.setBoolean(4, day.getValue());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return userId;
+    }
+
+    private static Streaks computeStreaks(UUID userId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(streakSql)) {
+            statement.setObject(1, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                assertTrue(rs.next());
+                Integer lastEpochDay = rs.getObject(3, Integer.class);
+                return new Streaks(rs.getInt(1), rs.getInt(2),
+                        lastEpochDay == null ? null : LocalDate.ofEpochDay(lastEpochDay), rs.getInt(4));
+            }
+        }
+    }
+
+    private static String explain(UUID userId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + streakSql)) {
+            statement.setObject(1, userId);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static List<LocalDate> loadCompletedDatesDesc(UUID userId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT date FROM rosary_logs WHERE user_id = ? AND completed = true ORDER BY date DESC")) {
+            statement.setObject(1, userId);
+            List<LocalDate> dates = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    dates.add(rs.getObject(1, LocalDate.class));
+                }
+            }
+            return dates;
+        }
+    }
+
+    /**
+     * The current streak loop the window query replaced.
+     */
+    private static int currentStreakLoop(List<LocalDate> descending) {
+        if (descending.isEmpty()) {
+            return 0;
+        }
+        int streak = 0;
+        LocalDate expected = descending.get(0);
+        for (LocalDate date : descending) {
+            if (!date.isEqual(expected)) {
+                break;
+            }
+            streak++;
+            expected = expected.minusDays(1);
+        }
+        return streak;
+    }
+
+    /**
+     * The longest streak loop the window query replaced.
+     */
+    private static int highestStreakLoop(List<LocalDate> descending) {
+        if (descending.isEmpty()) {
+            return 0;
+        }
+        int highest = 1;
+        int current = 1;
+        for (int i = 1; i < descending.size(); i++) {
+            if (descending.get(i - 1).minusDays(1).equals(descending.get(i))) {
+                current++;
+            } else {
+                highest = Math.max(highest, current);
+                current = 1;
+            }
+        }
+        return Math.max(highest, current);
+    }
+
+    private static long benchmark(SqlRunnable run) throws SQLException {
+        for (int i = 0; i < 5; i++) {
+            run.run();
+        }
+        long[] nanos = new long[BENCHMARK_RUNS];
+        for (int i = 0; i < BENCHMARK_RUNS; i++) {
+            long start = System.nanoTime();
+            run.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[BENCHMARK_RUNS / 2];
+    }
+
+    private interface SqlRunnable {
+        void run() throws SQLException;
+    }
+
+    private record Streaks(int currentStreak, int longestStreak, LocalDate lastCompletedDate, int totalCompleted) {
+    }
+}
@@ -6,19 +6,36 @@
 
 package com.alexandros.dailycompanion.service;
 
+import com.alexandros.dailycompanion.calendar.CompletionBitmap;
+import com.alexandros.dailycompanion.calendar.RosaryCompletionCache;
+import com.alexandros.dailycompanion.dto.CursorSlice;
+import com.alexandros.dailycompanion.dto.RosaryCalendarDto;
 import com.alexandros.dailycompanion.dto.RosaryLogDto;
+import com.alexandros.dailycompanion.dto.RosaryMonthDto;
+import com.alexandros.dailycompanion.dto.RosaryStatsDto;
+import com.alexandros.dailycompanion.dto.RosaryStreakProjection;
+import com.alexandros.dailycompanion.dto.RosarySyncDto;
 import com.alexandros.dailycompanion.enums.Roles;
 import com.alexandros.dailycompanion.model.RosaryLog;
+import com.alexandros.dailycompanion.model.RosaryStats;
 import com.alexandros.dailycompanion.model.User;
 import com.alexandros.dailycompanion.repository.RosaryLogRepository;
+import com.alexandros.dailycompanion.repository.RosaryLogUpsertRepository;
+import com.alexandros.dailycompanion.repository.RosaryStatsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 
+import java.nio.file.AccessDeniedException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -36,6 +53,15 @@ public class RosaryLogServiceTest {
     @Mock
     private RosaryLogRepository rosaryLogRepository;
 
+    @Mock
+    private RosaryLogUpsertRepository rosaryLogUpsertRepository;
+
+    @Mock
+    private RosaryStatsRepository rosaryStatsRepository;
+
+    @Mock
+    private RosaryCompletionCache rosaryCompletionCache;
+
     @Mock
     private ServiceHelper serviceHelper;
 
@@ -56,43 +82,285 @@ public class RosaryLogServiceTest {
     }
 
     @Test
-    void markCompleted_ShouldCreateNewLogIfNoneExists() {
-        when(serviceHelper.getUserByIdOrThrow(user.getId())).thenReturn(user);
-        when(rosaryLogRepository.findByUserIdAndDate(user.getId(), today))
-                .thenReturn(Optional.empty());
-        when(rosaryLogRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+    void markCompleted_ShouldReturnUpsertedLog() {
+        UUID logId = UUID.randomUUID();
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), today))
+                .thenReturn(Optional.of(new RosaryLogUpsertRepository.Completion(logId, today, false)));
+        when(rosaryStatsRepository.insertIfNotExists(user.getId())).thenReturn(1);
+        when(rosaryStatsRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(new RosaryStats(user.getId())));
+        when(rosaryLogRepository.computeStreaks(user.getId())).thenReturn(streaks(1, 1, today, 1));
 
         RosaryLogDto result = rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
 
-        assertTrue(result.completed());
-        assertEquals(today, result.date());
+        assertEquals(new RosaryLogDto(logId, today, true), result);
+        verify(auditLogService).logAction(eq(user.getId()), anyString(), eq("RosaryLog"), eq(logId),
+                contains("\"alreadyCompleted\": false"), eq("127.0.0.1"));
+        verify(rosaryLogRepository, never()).save(any());
+        verifyNoInteractions(serviceHelper);
     }
 
     @Test
-    void markCompleted_ShouldUpdateExistingLogIfAlreadyCompleted() {
-        RosaryLog existing = new RosaryLog(user, today, true);
-        when(serviceHelper.getUserByIdOrThrow(user.getId())).thenReturn(user);
-        when(rosaryLogRepository.findByUserIdAndDate(user.getId(), today))
-                .thenReturn(Optional.of(existing));
-        when(rosaryLogRepository.save(any())).thenReturn(existing);
+    void markCompleted_ShouldThrowWhenUserDoesNotExist() {
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), today)).thenReturn(Optional.empty());
 
-        RosaryLogDto result = rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
+        assertThrows(UsernameNotFoundException.class,
+                () -> rosaryLogService.markCompleted(user.getId(), "127.0.0.1"));
+        verifyNoInteractions(rosaryStatsRepository, auditLogService);
+    }
 
-        assertTrue(result.completed());
-        verify(rosaryLogRepository, times(1)).save(existing);
+    @Test
+    void markCompleted_ShouldExtendStreakWithoutReadingHistory() {
+        RosaryStats stats = new RosaryStats(user.getId());
+        stats.setCurrentStreak(3);
+        stats.setLongestStreak(3);
+        stats.setLastCompletedDate(today.minusDays(1));
+        stats.setTotalCompleted(10);
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), today))
+                .thenReturn(Optional.of(new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today, false)));
+        when(rosaryStatsRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(stats));
+
+        rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
+
+        assertEquals(4, stats.getCurrentStreak());
+        assertEquals(4, stats.getLongestStreak());
+        assertEquals(today, stats.getLastCompletedDate());
+        assertEquals(11, stats.getTotalCompleted());
+        verify(rosaryStatsRepository).save(stats);
+        verify(rosaryLogRepository, never()).computeStreaks(any());
+        verify(rosaryCompletionCache).evictAfterCommit(user.getId());
     }
 
     @Test
-    void markCompleted_ShouldMarkIncompleteLogAsCompleted() {
-        RosaryLog existing = new RosaryLog(user, today, false);
-        when(serviceHelper.getUserByIdOrThrow(user.getId())).thenReturn(user);
-        when(rosaryLogRepository.findByUserIdAndDate(user.getId(), today))
-                .thenReturn(Optional.of(existing));
-        when(rosaryLogRepository.save(any())).thenReturn(existing);
+    void markCompleted_ShouldRestartStreakAfterGap() {
+        RosaryStats stats = new RosaryStats(user.getId());
+        stats.setCurrentStreak(5);
+        stats.setLongestStreak(5);
+        stats.setLastCompletedDate(today.minusDays(2));
+        stats.setTotalCompleted(5);
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), today))
+                .thenReturn(Optional.of(new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today, false)));
+        when(rosaryStatsRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(stats));
+
+        rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
+
+        assertEquals(1, stats.getCurrentStreak());
+        assertEquals(5, stats.getLongestStreak());
+        assertEquals(6, stats.getTotalCompleted());
+    }
 
-        RosaryLogDto result = rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
+    @Test
+    void markCompleted_ShouldNotCountSameDayTwice() {
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), today))
+                .thenReturn(Optional.of(new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today, true)));
+
+        rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
+
+        verifyNoInteractions(rosaryStatsRepository);
+    }
+
+    @Test
+    void markCompleted_ShouldComputeStatsFromHistoryWhenRowWasJustCreated() {
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), today))
+                .thenReturn(Optional.of(new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today, false)));
+        when(rosaryStatsRepository.insertIfNotExists(user.getId())).thenReturn(1);
+        when(rosaryStatsRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(new RosaryStats(user.getId())));
+        when(rosaryLogRepository.computeStreaks(user.getId())).thenReturn(streaks(2, 2, today, 4));
+
+        rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
+
+        verify(rosaryStatsRepository).save(argThat(stats -> stats.getCurrentStreak() == 2
+                && stats.getLongestStreak() == 2
+                && stats.getTotalCompleted() == 4
+                && today.equals(stats.getLastCompletedDate())));
+    }
+
+    @Test
+    void markCompleted_ShouldCreateStatsRowBeforeLockingIt() {
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), today))
+                .thenReturn(Optional.of(new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today, false)));
+        when(rosaryStatsRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(new RosaryStats(user.getId())));
+
+        rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
+
+        InOrder inOrder = inOrder(rosaryStatsRepository);
+        inOrder.verify(rosaryStatsRepository).insertIfNotExists(user.getId());
+        inOrder.verify(rosaryStatsRepository).findByIdForUpdate(user.getId());
+        inOrder.verify(rosaryStatsRepository).save(any());
+    }
+
+    @Test
+    void markCompleted_ShouldStartEmptyStatsWhenDatabaseFindsNoHistory() {
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), today))
+                .thenReturn(Optional.of(new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today, false)));
+        when(rosaryStatsRepository.insertIfNotExists(user.getId())).thenReturn(1);
+        when(rosaryStatsRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(new RosaryStats(user.getId())));
+        when(rosaryLogRepository.computeStreaks(user.getId())).thenReturn(streaks(0, 0, null, 0));
+
+        rosaryLogService.markCompleted(user.getId(), "127.0.0.1");
+
+        verify(rosaryStatsRepository).save(argThat(stats -> stats.getCurrentStreak() == 0
+                && stats.getTotalCompleted() == 0
+                && stats.getLastCompletedDate() == null));
+    }
+
+    @Test
+    void syncCompletions_ShouldUpsertDistinctDaysAndRecomputeStats() throws Exception {
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(user);
+        RosaryStats stats = new RosaryStats(user.getId());
+        List<LocalDate> dates = List.of(today.minusDays(1), today.minusDays(2), today.minusDays(1));
+        when(rosaryLogUpsertRepository.markCompleted(user.getId(), new TreeSet<>(dates))).thenReturn(List.of(
+                new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today.minusDays(2), false),
+                new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today.minusDays(1), true)));
+        when(rosaryStatsRepository.findByIdForUpdate(user.getId())).thenReturn(Optional.of(stats));
+        when(rosaryLogRepository.computeStreaks(user.getId())).thenReturn(streaks(2, 4, today.minusDays(1), 9));
+
+        RosarySyncDto result = rosaryLogService.syncCompletions(user.getId(), dates, "127.0.0.1");
+
+        assertEquals(new RosarySyncDto(2, 1, new RosaryStatsDto(2, 4, today.minusDays(1), 9)), result);
+        verify(rosaryStatsRepository).insertIfNotExists(user.getId());
+        verify(rosaryStatsRepository).save(stats);
+        verify(rosaryCompletionCache).evictAfterCommit(user.getId());
+        verify(auditLogService, times(1)).logAction(eq(user.getId()), eq("SYNC_ROSARY_COMPLETIONS"), eq("RosaryLog"),
+                isNull(), contains("\"newlyCompleted\": 1"), eq("127.0.0.1"));
+    }
+
+    @Test
+    void syncCompletions_ShouldNotTouchStatsWhenNothingIsNew() throws Exception {
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(user);
+        when(rosaryLogUpsertRepository.markCompleted(eq(user.getId()), anyCollection())).thenReturn(List.of(
+                new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today, true)));
+        when(rosaryStatsRepository.findById(user.getId())).thenReturn(Optional.of(new RosaryStats(user.getId())));
+
+        RosarySyncDto result = rosaryLogService.syncCompletions(user.getId(), List.of(today), "127.0.0.1");
+
+        assertEquals(0, result.newlyCompleted());
+        verify(rosaryStatsRepository, never()).save(any());
+        verifyNoInteractions(rosaryCompletionCache);
+    }
+
+    @Test
+    void syncCompletions_ShouldRejectDatesOutsideWindow() throws Exception {
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(user);
+        List<LocalDate> tooOld = List.of(today.minusDays(RosaryLogService.SYNC_WINDOW_DAYS + 1));
+        List<LocalDate> tooLate = List.of(today.plusDays(2));
+        List<LocalDate> tooMany = Collections.nCopies(RosaryLogService.MAX_SYNC_DATES + 1, today);
+
+        assertThrows(IllegalArgumentException.class, () -> rosaryLogService.syncCompletions(user.getId(), tooOld, "127.0.0.1"));
+        assertThrows(IllegalArgumentException.class, () -> rosaryLogService.syncCompletions(user.getId(), tooLate, "127.0.0.1"));
+        assertThrows(IllegalArgumentException.class, () -> rosaryLogService.syncCompletions(user.getId(), tooMany, "127.0.0.1"));
+        assertThrows(IllegalArgumentException.class, () -> rosaryLogService.syncCompletions(user.getId(), List.of(), "127.0.0.1"));
+        verifyNoInteractions(rosaryLogUpsertRepository);
+    }
+
+    @Test
+    void syncCompletions_ShouldThrowWhenUserDoesNotExist() throws Exception {
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(user);
+        when(rosaryLogUpsertRepository.markCompleted(eq(user.getId()), anyCollection())).thenReturn(List.of());
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> rosaryLogService.syncCompletions(user.getId(), List.of(today), "127.0.0.1"));
+        verifyNoInteractions(auditLogService);
+    }
+
+    @Test
+    void syncCompletions_ShouldRejectOtherUsersHistory() {
+        User other = new User();
+        other.setId(UUID.randomUUID());
+        other.setRole(Roles.USER);
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(other);
+
+        assertThrows(AccessDeniedException.class,
+                () -> rosaryLogService.syncCompletions(user.getId(), List.of(today), "127.0.0.1"));
+        verifyNoInteractions(rosaryLogUpsertRepository, rosaryStatsRepository, auditLogService);
+    }
+
+    @Test
+    void syncCompletions_ShouldAllowAdminForOtherUser() throws Exception {
+        User admin = new User();
+        admin.setId(UUID.randomUUID());
+        admin.setRole(Roles.ADMIN);
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(admin);
+        when(rosaryLogUpsertRepository.markCompleted(eq(user.getId()), anyCollection())).thenReturn(List.of(
+                new RosaryLogUpsertRepository.Completion(UUID.randomUUID(), today, true)));
+        when(rosaryStatsRepository.findById(user.getId())).thenReturn(Optional.of(new RosaryStats(user.getId())));
+
+        RosarySyncDto result = rosaryLogService.syncCompletions(user.getId(), List.of(today), "127.0.0.1");
+
+        assertEquals(1, result.received());
+    }
+
+    @Test
+    void getMonthlyCalendar_ShouldSummarizeEveryMonthInRange() {
+        YearMonth january = YearMonth.of(2025, 1);
+        when(rosaryLogRepository.findCompletedDatesBetween(user.getId(), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31)))
+                .thenReturn(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), LocalDate.of(2025, 3, 31)));
+
+        List<RosaryMonthDto> calendar = rosaryLogService.getMonthlyCalendar(user.getId(), january, YearMonth.of(2025, 3));
+
+        assertEquals(List.of(
+                new RosaryMonthDto(january, 0b101, 2),
+                new RosaryMonthDto(YearMonth.of(2025, 2), 0, 0),
+                new RosaryMonthDto(YearMonth.of(2025, 3), 1 << 30, 1)), calendar);
+    }
+
+    @Test
+    void getMonthlyCalendar_ShouldRejectInvalidRanges() {
+        YearMonth month = YearMonth.of(2025, 6);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> rosaryLogService.getMonthlyCalendar(user.getId(), month, month.minusMonths(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> rosaryLogService.getMonthlyCalendar(user.getId(), month, month.plusMonths(RosaryLogService.MAX_CALENDAR_MONTHS)));
+        verifyNoInteractions(rosaryLogRepository);
+    }
+
+    @Test
+    void getStats_ShouldReadStatsRow() {
+        RosaryStats stats = new RosaryStats(user.getId());
+        stats.setCurrentStreak(2);
+        stats.setLongestStreak(7);
+        stats.setLastCompletedDate(today);
+        stats.setTotalCompleted(30);
+        when(rosaryStatsRepository.findById(user.getId())).thenReturn(Optional.of(stats));
+
+        assertEquals(new RosaryStatsDto(2, 7, today, 30), rosaryLogService.getStats(user.getId()));
+        assertEquals(7, rosaryLogService.calculateHighestStreak(user.getId()));
+        verifyNoInteractions(rosaryLogRepository, rosaryCompletionCache);
+    }
+
+    @Test
+    void getStats_ShouldFallBackToBitmapWithoutStatsRow() {
+        when(rosaryStatsRepository.findById(user.getId())).thenReturn(Optional.empty());
+        when(rosaryCompletionCache.get(user.getId())).thenReturn(CompletionBitmap.of(List.of(
+                today.minusDays(5), today.minusDays(4), today.minusDays(3), today.minusDays(1), today)));
+
+        assertEquals(new RosaryStatsDto(2, 3, today, 5), rosaryLogService.getStats(user.getId()));
+        assertEquals(2, rosaryLogService.getStreak(user.getId()));
+        assertEquals(3, rosaryLogService.calculateHighestStreak(user.getId()));
+    }
+
+    @Test
+    void getStats_ShouldReturnZerosForUserWithoutCompletions() {
+        when(rosaryStatsRepository.findById(user.getId())).thenReturn(Optional.empty());
+        when(rosaryCompletionCache.get(user.getId())).thenReturn(CompletionBitmap.of(List.of()));
 
-        assertTrue(result.completed());
+        assertEquals(new RosaryStatsDto(0, 0, null, 0), rosaryLogService.getStats(user.getId()));
+    }
+
+    @Test
+    void completionCalendar_ShouldBeServedFromBitmap() {
+        CompletionBitmap bitmap = CompletionBitmap.of(List.of(today.minusDays(2), today));
+        when(rosaryCompletionCache.get(user.getId())).thenReturn(bitmap);
+
+        RosaryCalendarDto calendar = rosaryLogService.getCompletionCalendar(user.getId());
+
+        assertEquals(today.minusDays(2).toEpochDay(), calendar.originEpochDay());
+        assertEquals(3, calendar.days());
+        assertEquals(Base64.getEncoder().encodeToString(new byte[]{0b101}), calendar.bitmap());
+        assertEquals(List.of(today, today.minusDays(2)), rosaryLogService.getCompletedDates(user.getId()));
+        assertTrue(rosaryLogService.isCompletedOn(user.getId(), today));
+        assertFalse(rosaryLogService.isCompletedOn(user.getId(), today.minusDays(1)));
+        verifyNoInteractions(rosaryLogRepository);
     }
 
     @Test
@@ -126,6 +394,43 @@ public class RosaryLogServiceTest {
         assertEquals(today, result.get(0).date());
     }
 
+    @Test
+    void getHistoryAfter_ShouldReturnCursorWhenMoreRowsExist() {
+        RosaryLog newest = new RosaryLog(user, today, true);
+        newest.setId(UUID.randomUUID());
+        RosaryLog older = new RosaryLog(user, today.minusDays(1), true);
+        older.setId(UUID.randomUUID());
+        when(rosaryLogRepository.findByUserIdAndCompletedTrue(eq(user.getId()), any(Sort.class), eq(Limit.of(2))))
+                .thenReturn(List.of(newest, older));
+
+        CursorSlice<RosaryLogDto> result = rosaryLogService.getHistoryAfter(user.getId(), "", 1, "desc");
+
+        assertEquals(1, result.content().size());
+        assertEquals(today, result.content().get(0).date());
+        assertEquals(CursorCodec.encode(today, newest.getId()), result.nextCursor());
+    }
+
+    @Test
+    void getHistoryAfter_ShouldSeekPastCursorWithoutCounting() {
+        UUID lastId = UUID.randomUUID();
+        RosaryLog older = new RosaryLog(user, today.minusDays(1), true);
+        older.setId(UUID.randomUUID());
+        when(rosaryLogRepository.findCompletedBefore(user.getId(), today, lastId, Limit.of(3)))
+                .thenReturn(List.of(older));
+
+        CursorSlice<RosaryLogDto> result = rosaryLogService.getHistoryAfter(user.getId(), CursorCodec.encode(today, lastId), 2, "desc");
+
+        assertEquals(1, result.content().size());
+        assertNull(result.nextCursor());
+        verify(rosaryLogRepository, never()).findAllByUserIdAndCompletedTrue(any(), any());
+    }
+
+    @Test
+    void getHistoryAfter_ShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> rosaryLogService.getHistoryAfter(user.getId(), "not-a-cursor", 5, "desc"));
+    }
+
    /* @Test
     void getStreak_ShouldReturnCorrectStreak() {
         LocalDate d1 = today;
@@ -177,17 +482,26 @@ public class RosaryLogServiceTest {
 
     @Test
     void isCompletedOn_ShouldReturnTrueIfCompleted() {
-        when(rosaryLogRepository.existsByUserIdAndDate(user.getId(), today))
-                .thenReturn(true);
+        when(rosaryCompletionCache.get(user.getId()))
+                .thenReturn(CompletionBitmap.of(List.of(today)));
 
         assertTrue(rosaryLogService.isCompletedOn(user.getId(), today));
     }
 
     @Test
     void isCompletedOn_ShouldReturnFalseIfNotCompleted() {
-        when(rosaryLogRepository.existsByUserIdAndDate(user.getId(), today))
-                .thenReturn(false);
+        when(rosaryCompletionCache.get(user.getId()))
+                .thenReturn(CompletionBitmap.of(List.of(today.minusDays(1))));
 
         assertFalse(rosaryLogService.isCompletedOn(user.getId(), today));
     }
+
+    private static RosaryStreakProjection streaks(int current, int longest, LocalDate last, int total) {
+        return new RosaryStreakProjection() {
+            public int getCurrentStreak() { return current; }
+            public int getLongestStreak() { return longest; }
+            public Integer getLastCompletedEpochDay() { return last == null ? null : (int) last.toEpochDay(); }
+            public int getTotalCompleted() { return total; }
+        };
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Alexandros Kazalis
+ *
+ * Licensed under the MIT License. See LICENSE file in the project root for details.
+ */
+
+package com.alexandros.dailycompanion.service;
+
+import com.alexandros.dailycompanion.catalog.SaintCatalog;
+import com.alexandros.dailycompanion.catalog.SaintCatalogSnapshot;
+import com.alexandros.dailycompanion.dto.SaintDto;
+import com.alexandros.dailycompanion.dto.SaintImportResultDto;
+import com.alexandros.dailycompanion.image.HashedImageStore;
+import com.alexandros.dailycompanion.model.Saint;
+import com.alexandros.dailycompanion.model.User;
+import com.alexandros.dailycompanion.repository.SaintBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.MonthDay;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SaintBulkServiceTest {
+
+    private static final String BIOGRAPHY = "A long enough biography.";
+
+    @Mock
+    SaintBatchRepository saintBatchRepository;
+
+    @Mock
+    SaintCatalog saintCatalog;
+
+    @Mock
+    HashedImageStore hashedImageStore;
+
+    @Mock
+    SaintImagePlaceholderService saintImagePlaceholderService;
+
+    @Mock
+    AuditLogService auditLogService;
+
+    @Mock
+    ServiceHelper serviceHelper;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private SaintBulkService saintBulkService;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        saintBulkService = new SaintBulkService(saintBatchRepository, saintCatalog, hashedImageStore, saintImagePlaceholderService, auditLogService,
+                serviceHelper, Validation.buildDefaultValidatorFactory().getValidator(), objectMapper, transactionManager);
+        admin = new User();
+        admin.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void importSaintsShouldInsertNewUpdateChangedAndReportInvalidLines() {
+        UUID existingId = UUID.randomUUID();
+        SaintDto existing = new SaintDto(existingId, "St. Agatha", null, null, MonthDay.of(2, 5),
+                "Old biography text.", "Nurses", null, null, null, null, null);
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(admin);
+        when(saintBatchRepository.findAllByName()).thenReturn(new HashMap<>(Map.of("St. Agatha", existing)));
+        when(hashedImageStore.hashedUrl(any())).thenAnswer(i -> i.getArgument(0));
+        List<String> inserted = new ArrayList<>();
+        List<UUID> updated = new ArrayList<>();
+        when(saintBatchRepository.insert(anyList())).thenAnswer(i -> {
+            List<SaintDto> saints = i.getArgument(0);
+            saints.forEach(s -> inserted.add(s.name()));
+            return saints.size();
+        });
+        when(saintBatchRepository.update(anyList())).thenAnswer(i -> {
+            List<SaintDto> saints = i.getArgument(0);
+            saints.forEach(s -> updated.add(s.id()));
+            return saints.size();
+        });
+
+        String ndjson = String.join("\n",
+                line("St. Agatha", "--02-05", BIOGRAPHY),
+                "",
+                line("St. Lucy", "--12-13", BIOGRAPHY),
+                "{not json",
+                line("X", "--01-01", "short"));
+
+        SaintImportResultDto result = saintBulkService.importSaints(stream(ndjson), "127.0.0.1");
+
+        assertEquals(1, result.inserted());
+        assertEquals(1, result.updated());
+        assertEquals(2, result.rejected());
+        assertEquals(List.of(4L, 5L), result.errors().stream().map(SaintImportResultDto.LineError::line).toList());
+        assertTrue(result.errors().get(1).message().contains("biography"));
+        assertEquals(List.of("St. Lucy"), inserted);
+        assertEquals(List.of(existingId), updated);
+        verify(auditLogService).logAction(eq(admin.getId()), eq("BULK_IMPORT_SAINTS"), eq("Saint"), isNull(),
+                contains("\"Lines\": \"1-3\""), eq("127.0.0.1"));
+        verify(saintCatalog).refreshAfterCommit();
+    }
+
+    @Test
+    void importSaintsShouldCommitEveryChunkWithOneAuditEntry() {
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(admin);
+        when(saintBatchRepository.findAllByName()).thenReturn(new HashMap<>());
+        when(saintBatchRepository.insert(anyList())).thenAnswer(i -> {
+            List<SaintDto> saints = i.getArgument(0);
+            int count = saints.size();
+            saints.clear();
+            return count;
+        });
+
+        StringBuilder ndjson = new StringBuilder();
+        int total = SaintBulkService.CHUNK_SIZE + 1;
+        for (int i = 0; i < total; i++) {
+            ndjson.append(line("Saint " + i, "--03-01", BIOGRAPHY)).append('\n');
+        }
+
+        SaintImportResultDto result = saintBulkService.importSaints(stream(ndjson.toString()), "127.0.0.1");
+
+        assertEquals(total, result.inserted());
+        verify(transactionManager, times(2)).commit(any());
+        verify(auditLogService, times(2)).logAction(any(), eq("BULK_IMPORT_SAINTS"), any(), any(), anyString(), any());
+    }
+
+    @Test
+    void importSaintsShouldStopWithoutRefreshingWhenChunkFailsToCommit() {
+        when(serviceHelper.getAuthenticatedUser()).thenReturn(admin);
+        when(saintBatchRepository.findAllByName()).thenReturn(new HashMap<>());
+        when(saintBatchRepository.insert(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> saintBulkService.importSaints(stream(line("St. Lucy", "--12-13", BIOGRAPHY)), "127.0.0.1"));
+
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(saintImagePlaceholderService, auditLogService);
+        verify(saintCatalog, never()).refreshAfterCommit();
+    }
+
+    @Test
+    void exportSaintsShouldWriteOneLinePerSaint() throws Exception {
+        Saint first = new Saint();
+        first.setId(UUID.randomUUID());
+        first.setName("St. Agatha");
+        first.setFeastDay(MonthDay.of(2, 5));
+        Saint second = new Saint();
+        second.setId(UUID.randomUUID());
+        second.setName("St. Lucy");
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(second, first)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        saintBulkService.exportSaints(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("St. Agatha", objectMapper.readTree(lines[0]).get("name").asText());
+        assertEquals("--02-05", objectMapper.readTree(lines[0]).get("feastDay").asText());
+        assertEquals("St. Lucy", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
+    private static String line(String name, String feastDay, String biography) {
+        return String.format("{\"name\":\"%s\",\"feastDay\":\"%s\",\"biography\":\"%s\",\"patronage\":\"Pilgrims\"}",
+                name, feastDay, biography);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,11 +6,23 @@
 
 package com.alexandros.dailycompanion.service;
 
+import com.alexandros.dailycompanion.catalog.PatronageParser;
+import com.alexandros.dailycompanion.catalog.SaintCatalog;
+import com.alexandros.dailycompanion.catalog.SaintCatalogSnapshot;
+import com.alexandros.dailycompanion.catalog.TodaysSaints;
+import com.alexandros.dailycompanion.dto.CursorSlice;
+import com.alexandros.dailycompanion.dto.SaintBatchDto;
+import com.alexandros.dailycompanion.dto.SaintChangesDto;
 import com.alexandros.dailycompanion.dto.SaintDto;
+import com.alexandros.dailycompanion.dto.SaintListDto;
 import com.alexandros.dailycompanion.dto.SaintRequest;
+import com.alexandros.dailycompanion.dto.SaintSearchDto;
+import com.alexandros.dailycompanion.dto.SaintSearchProjection;
 import com.alexandros.dailycompanion.dto.SaintUpdateRequest;
 import com.alexandros.dailycompanion.enums.Roles;
+import com.alexandros.dailycompanion.image.HashedImageStore;
 import com.alexandros.dailycompanion.model.Saint;
+import com.alexandros.dailycompanion.model.SaintTombstone;
 import com.alexandros.dailycompanion.model.User;
 import com.alexandros.dailycompanion.repository.SaintRepository;
 import com.alexandros.dailycompanion.security.PasswordUtil;
@@ -22,12 +34,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.MonthDay;
+import java.time.ZoneId;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +57,18 @@ public class SaintServiceTest {
     @Mock
     AuditLogService auditLogService;
 
+    @Mock
+    SaintCatalog saintCatalog;
+
+    @Mock
+    HashedImageStore hashedImageStore;
+
+    @Mock
+    TodaysSaints todaysSaints;
+
+    @Mock
+    SaintImagePlaceholderService saintImagePlaceholderService;
+
     @InjectMocks
     SaintService saintService;
 
@@ -97,16 +124,89 @@ public class SaintServiceTest {
         SaintDto result = saintService.createSaint(saintRequest, "127.0.0.1");
 
         assertEquals("St Francis", result.name());
-        verify(saintRepository).save(any(Saint.class));
+        verify(saintRepository).save(argThat(saved -> saved.getPatronageTerms().equals(Set.of("animals and environment"))));
+        verify(saintImagePlaceholderService).apply(any(Saint.class));
+        verify(saintCatalog).refreshAfterCommit();
     }
 
     @Test
-    void getSaintShouldUseServiceHelper() {
-        when(serviceHelper.getSaintById(saint.getId())).thenReturn(saint);
+    void getSaintShouldReadFromCatalog() {
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)));
 
         SaintDto result = saintService.getSaint(saint.getId());
 
         assertEquals("St Francis", result.name());
+        verifyNoInteractions(saintRepository, serviceHelper);
+    }
+
+    @Test
+    void getSaintShouldThrowIfMissingFromCatalog() {
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)));
+
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSaint(UUID.randomUUID()));
+    }
+
+    @Test
+    void getAllSaintsListShouldFilterAndPageFromCatalog() {
+        Saint other = new Saint();
+        other.setId(UUID.randomUUID());
+        other.setName("St Clare");
+        other.setFeastDay(MonthDay.of(8, 11));
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint, other)));
+
+        Page<SaintListDto> all = saintService.getAllSaintsList("", 0, 1);
+        Page<SaintListDto> filtered = saintService.getAllSaintsList("fran", 0, 5);
+
+        assertEquals(2, all.getTotalElements());
+        assertEquals("St Clare", all.getContent().get(0).name());
+        assertEquals(1, filtered.getTotalElements());
+        assertEquals("St Francis", filtered.getContent().get(0).name());
+    }
+
+    @Test
+    void getSaintsListAfterShouldResumeAfterCursorSaint() {
+        Saint clare = new Saint();
+        clare.setId(UUID.randomUUID());
+        clare.setName("St Clare");
+        Saint joseph = new Saint();
+        joseph.setId(UUID.randomUUID());
+        joseph.setName("St Joseph");
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint, clare, joseph)));
+
+        CursorSlice<SaintListDto> first = saintService.getSaintsListAfter("", "", 2);
+        CursorSlice<SaintListDto> second = saintService.getSaintsListAfter("", first.nextCursor(), 2);
+
+        assertEquals(List.of("St Clare", "St Francis"), first.content().stream().map(SaintListDto::name).toList());
+        assertEquals(List.of("St Joseph"), second.content().stream().map(SaintListDto::name).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void getSaintsListAfterShouldResumeByNameWhenCursorSaintWasDeleted() {
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)));
+
+        CursorSlice<SaintListDto> result = saintService.getSaintsListAfter("", CursorCodec.encode("St Clare", UUID.randomUUID()), 5);
+
+        assertEquals(List.of("St Francis"), result.content().stream().map(SaintListDto::name).toList());
+    }
+
+    @Test
+    void getSaintsListAfterShouldRejectStaleCursorForQuery() {
+        Saint clare = new Saint();
+        clare.setId(UUID.randomUUID());
+        clare.setName("St Clare of Assisi");
+        Saint agnes = new Saint();
+        agnes.setId(UUID.randomUUID());
+        agnes.setName("St Agnes of Assisi");
+        when(saintCatalog.snapshot())
+                .thenReturn(SaintCatalogSnapshot.of(1, List.of(saint, clare, agnes)))
+                .thenReturn(SaintCatalogSnapshot.of(2, List.of(saint, clare)));
+
+        CursorSlice<SaintListDto> first = saintService.getSaintsListAfter("assisi", "", 1);
+        assertEquals(List.of("St Agnes of Assisi"), first.content().stream().map(SaintListDto::name).toList());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> saintService.getSaintsListAfter("assisi", first.nextCursor(), 1));
     }
 
     @Test
@@ -129,14 +229,17 @@ public class SaintServiceTest {
 
         when(serviceHelper.getSaintById(saint.getId())).thenReturn(saint);
         when(saintRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(hashedImageStore.hashedUrl("new.url")).thenReturn("new.url");
 
         SaintDto result = saintService.updateSaint(saint.getId(), updateRequest, "127.0.0.1");
 
         assertEquals("New Name", result.name());
+        assertEquals("new.url", result.imageUrl());
         assertEquals(500, result.birthYear());
         assertEquals(600, result.deathYear());
         assertEquals(MonthDay.of(12, 25), result.feastDay());
         verify(saintRepository).save(any());
+        verify(saintCatalog).refreshAfterCommit();
     }
 
     @Test
@@ -152,6 +255,7 @@ public class SaintServiceTest {
         SaintDto result = saintService.updateSaint(saint.getId(), updateRequest, "127.0.0.1");
 
         verify(saintRepository, never()).save(any());
+        verify(saintCatalog, never()).refreshAfterCommit();
         assertEquals("St Francis", result.name());
     }
 
@@ -162,6 +266,7 @@ public class SaintServiceTest {
         when(serviceHelper.getSaintById(saint.getId())).thenReturn(saint);
         saintService.deleteSaint(saint.getId(), "127.0.0.1");
         verify(saintRepository).deleteById(saint.getId());
+        verify(saintCatalog).refreshAfterCommit();
     }
 
     /*@Test
@@ -190,11 +295,85 @@ public class SaintServiceTest {
     }*/
 
     @Test
-    void getSaintByFeastDayReturnsDto() {
-        MonthDay today = MonthDay.now();
-        saint.setFeastDay(today);
+    void getAllSaintsListShouldFoldDiacriticsAndRankPrefixMatchesFirst() {
+        Saint therese = new Saint();
+        therese.setId(UUID.randomUUID());
+        therese.setName("Saint Thérèse of Lisieux");
+        Saint theresa = new Saint();
+        theresa.setId(UUID.randomUUID());
+        theresa.setName("Mother Theresa");
+        Saint benedicta = new Saint();
+        benedicta.setId(UUID.randomUUID());
+        benedicta.setName("Teresa Benedicta");
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(therese, theresa, benedicta)));
+
+        List<SaintListDto> folded = saintService.getAllSaintsList("THÉRÈS", 0, 10).getContent();
+        List<SaintListDto> ranked = saintService.getAllSaintsList("eresa", 0, 10).getContent();
+        List<SaintListDto> prefix = saintService.getAllSaintsList("te", 0, 10).getContent();
+
+        assertEquals(List.of("Mother Theresa", "Saint Thérèse of Lisieux"), folded.stream().map(SaintListDto::name).toList());
+        assertEquals(List.of("Mother Theresa", "Teresa Benedicta"), ranked.stream().map(SaintListDto::name).toList());
+        assertEquals("Teresa Benedicta", prefix.get(0).name());
+        assertTrue(saintService.getAllSaintsList("xyz", 0, 10).isEmpty());
+    }
 
-        when(saintRepository.findByFeastDay(today)).thenReturn(Optional.of(saint));
+    @Test
+    void searchSaintsShouldMapFullTextHits() {
+        SaintSearchProjection hit = mock(SaintSearchProjection.class);
+        when(hit.getId()).thenReturn(saint.getId());
+        when(hit.getName()).thenReturn("St Francis");
+        when(hit.getFeastDay()).thenReturn((short) 278);
+        when(hit.getImageUrl()).thenReturn("http://picture.com");
+        when(hit.getSnippet()).thenReturn("<b>Animals</b> and environment");
+        when(hit.getRank()).thenReturn(0.6);
+        when(saintRepository.searchFullText("animals", 10, 0L)).thenReturn(List.of(hit));
+        when(saintRepository.countFullText("animals")).thenReturn(1L);
+
+        Page<SaintSearchDto> result = saintService.searchSaints("animals", 0, 10);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(MonthDay.of(10, 4), result.getContent().get(0).saint().feastDay());
+        assertEquals("<b>Animals</b> and environment", result.getContent().get(0).snippet());
+    }
+
+    @Test
+    void searchSaintsWithBlankQueryShouldNotHitDatabase() {
+        assertTrue(saintService.searchSaints("  ", 0, 10).isEmpty());
+        verifyNoInteractions(saintRepository);
+    }
+
+    @Test
+    void getSaintsByPatronageShouldMatchAllOrAnyTerms() {
+        saint.setPatronageTerms(PatronageParser.parse("Animals, environment, and merchants"));
+        Saint nicholas = new Saint();
+        nicholas.setId(UUID.randomUUID());
+        nicholas.setName("St Nicholas");
+        nicholas.setPatronageTerms(PatronageParser.parse("Children, sailors, merchants"));
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint, nicholas)));
+
+        List<SaintListDto> all = saintService.getSaintsByPatronage(List.of("Merchants", "animals"), true);
+        List<SaintListDto> any = saintService.getSaintsByPatronage(List.of("sailors", "animals"), false);
+
+        assertEquals(List.of("St Francis"), all.stream().map(SaintListDto::name).toList());
+        assertEquals(List.of("St Francis", "St Nicholas"), any.stream().map(SaintListDto::name).toList());
+    }
+
+    @Test
+    void suggestPatronageShouldReturnPrefixThenWordMatches() {
+        saint.setPatronageTerms(PatronageParser.parse("Ireland, engineers, and against snakes"));
+        Saint other = new Saint();
+        other.setId(UUID.randomUUID());
+        other.setName("St Other");
+        other.setPatronageTerms(PatronageParser.parse("Snake handlers"));
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint, other)));
+
+        assertEquals(List.of("snake handlers", "against snakes"), saintService.suggestPatronage("Snak", 10));
+        assertEquals(List.of("snake handlers"), saintService.suggestPatronage("snak", 1));
+    }
+
+    @Test
+    void getSaintByFeastDayReturnsDto() {
+        when(todaysSaints.getSaints(ZoneId.systemDefault())).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)).getSaints());
 
         SaintDto result = saintService.getSaintByFeastDay();
         assertNotNull(result);
@@ -202,10 +381,19 @@ public class SaintServiceTest {
 
     @Test
     void getSaintByFeastDayReturnsNullIfNotFound() {
-        when(saintRepository.findByFeastDay(MonthDay.now())).thenReturn(Optional.empty());
+        when(todaysSaints.getSaints(ZoneId.systemDefault())).thenReturn(List.of());
         assertNull(saintService.getSaintByFeastDay());
     }
 
+    @Test
+    void getTodaysSaintListShouldUseClientZone() {
+        List<SaintListDto> saints = SaintCatalogSnapshot.of(1, List.of(saint)).getSaintList();
+        when(todaysSaints.getSaintList(ZoneId.of("Pacific/Kiritimati"))).thenReturn(saints);
+
+        assertEquals(saints, saintService.getTodaysSaintList("Pacific/Kiritimati"));
+        assertThrows(IllegalArgumentException.class, () -> saintService.getTodaysSaintList("Mars/Olympus"));
+    }
+
     @Test
     void getSaintsByMonthGroupsCorrectly() {
         Saint s1 = new Saint();
@@ -216,7 +404,7 @@ public class SaintServiceTest {
         s2.setName("B");
         s2.setFeastDay(MonthDay.of(10, 4));
 
-        when(saintRepository.findAll()).thenReturn(List.of(s1, s2));
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(s1, s2)));
         Map<String, List<String>> result = saintService.getSaintsByMonth(2025, 10);
 
         assertEquals(1, result.size());
@@ -225,7 +413,7 @@ public class SaintServiceTest {
 
     @Test
     void getAllSaintsByFeastCodeReturnsList() {
-        when(saintRepository.findAllByFeastDay(MonthDay.of(10, 4))).thenReturn(List.of(saint));
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)));
 
         List<SaintDto> result = saintService.getAllSaintsByFeastCode("10-04");
         assertEquals(1, result.size());
@@ -233,21 +421,168 @@ public class SaintServiceTest {
 
     @Test
     void getAllSaintsByFeastCodeReturnsEmpty() {
-        when(saintRepository.findAllByFeastDay(any())).thenReturn(Collections.emptyList());
-        assertTrue(saintService.getAllSaintsByFeastCode("10-04").isEmpty());
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)));
+        assertTrue(saintService.getAllSaintsByFeastCode("10-05").isEmpty());
+    }
+
+    @Test
+    void getAllSaintsByFeastCodeShouldProjectSelectedFields() {
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)));
+
+        List<Map<String, Object>> result = saintService.getAllSaintsByFeastCode("10-04", "name, id");
+
+        assertEquals(1, result.size());
+        assertEquals(List.of("id", "name"), List.copyOf(result.get(0).keySet()));
+        assertEquals(saint.getName(), result.get(0).get("name"));
+    }
+
+    @Test
+    void getSaintWithFieldsShouldRejectUnknownField() {
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSaint(saint.getId(), "name,secret"));
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSaint(saint.getId(), " , "));
+    }
+
+    @Test
+    void getChangesSinceShouldReturnOnlyNewerSaintsAndTombstones() {
+        Saint unchanged = new Saint();
+        unchanged.setId(UUID.randomUUID());
+        unchanged.setName("St. Older");
+        unchanged.setRevision(3L);
+        saint.setRevision(7L);
+        SaintTombstone oldDeletion = tombstone(2L);
+        SaintTombstone newDeletion = tombstone(8L);
+        when(saintCatalog.snapshot()).thenReturn(
+                SaintCatalogSnapshot.of(1, List.of(unchanged, saint), List.of(newDeletion, oldDeletion)));
+
+        SaintChangesDto changes = saintService.getChangesSince(5);
+
+        assertFalse(changes.full());
+        assertEquals(8, changes.revision());
+        assertEquals(List.of(saint.getId()), changes.saints().stream().map(SaintDto::id).toList());
+        assertEquals(List.of(newDeletion.getSaintId()), changes.deleted());
+        assertTrue(saintService.getChangesSince(8).saints().isEmpty());
+    }
+
+    @Test
+    void getChangesSinceShouldReturnFullCatalogForFirstOrUnknownRevision() {
+        saint.setRevision(4L);
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint), List.of(tombstone(2L))));
+
+        SaintChangesDto first = saintService.getChangesSince(0);
+        assertTrue(first.full());
+        assertEquals(1, first.saints().size());
+        assertTrue(first.deleted().isEmpty());
+
+        assertTrue(saintService.getChangesSince(99).full());
+        assertThrows(IllegalArgumentException.class, () -> saintService.getChangesSince(-1));
+    }
+
+    private static SaintTombstone tombstone(long revision) {
+        SaintTombstone tombstone = new SaintTombstone();
+        tombstone.setSaintId(UUID.randomUUID());
+        tombstone.setRevision(revision);
+        tombstone.setDeletedAt(Instant.now());
+        return tombstone;
+    }
+
+    @Test
+    void getSaintsBetweenShouldQueryMonthAndWeekAsSingleRange() {
+        SaintListDto lucy = new SaintListDto(UUID.randomUUID(), "St. Lucy", MonthDay.of(12, 13), "/images/lucy.jpg", null, null, null, null);
+        when(saintRepository.findListByFeastDayBetween(MonthDay.of(12, 1), MonthDay.of(12, 31))).thenReturn(List.of(lucy));
+        when(saintRepository.findListByFeastDayBetween(MonthDay.of(2, 26), MonthDay.of(3, 3))).thenReturn(List.of());
+
+        List<SaintListDto> december = saintService.getSaintsBetween("12-01", "12-31");
+
+        assertEquals(1, december.size());
+        assertEquals("/images/lucy.jpg?w=160", december.get(0).imageUrl());
+        assertTrue(saintService.getSaintsBetween("02-26", "03-03").isEmpty());
+        verify(saintRepository, never()).findListByFeastDayAcrossNewYear(any(), any());
+    }
+
+    @Test
+    void getSaintsBetweenShouldWrapAroundNewYear() {
+        when(saintRepository.findListByFeastDayAcrossNewYear(MonthDay.of(12, 28), MonthDay.of(1, 3))).thenReturn(List.of());
+
+        saintService.getSaintsBetween("12-28", "01-03");
+
+        verify(saintRepository, never()).findListByFeastDayBetween(any(), any());
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSaintsBetween("13-01", "01-03"));
+    }
+
+    @Test
+    void getUpcomingFeastsShouldRejectInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> saintService.getUpcomingFeasts(0, null));
+        verifyNoInteractions(saintCatalog);
+    }
+
+    @Test
+    void getSaintsShouldReturnFoundSaintsInOrderAndReportMissingIds() {
+        Saint other = new Saint();
+        other.setId(UUID.randomUUID());
+        other.setName("St Clare");
+        UUID missingId = UUID.randomUUID();
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint, other)));
+
+        SaintBatchDto result = saintService.getSaints(List.of(other.getId().toString(), missingId.toString(),
+                saint.getId().toString(), other.getId().toString()));
+
+        assertEquals(List.of("St Clare", "St Francis"), result.saints().stream().map(SaintDto::name).toList());
+        assertEquals(List.of(missingId), result.missing());
+        verifyNoInteractions(saintRepository);
+    }
+
+    @Test
+    void getSaintsShouldRejectEmptyOversizedOrMalformedBatches() {
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= SaintService.MAX_BATCH_IDS; i++) {
+            tooMany.add(UUID.randomUUID().toString());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSaints(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSaints(tooMany));
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSaints(List.of("not-a-uuid")));
+        verifyNoInteractions(saintCatalog);
+    }
+
+    @Test
+    void getSaintsShouldCheckBatchSizeBeforeParsingIds() {
+        List<String> tooMany = Collections.nCopies(SaintService.MAX_BATCH_IDS + 1, "not-a-uuid");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> saintService.getSaints(tooMany));
+
+        assertTrue(e.getMessage().startsWith("At most"));
+    }
+
+    @Test
+    void getSimilarSaintsShouldRejectInvalidLimitAndUnknownSaint() {
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSimilarSaints(saint.getId(), 0));
+        verifyNoInteractions(saintCatalog);
+
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)));
+        assertThrows(IllegalArgumentException.class, () -> saintService.getSimilarSaints(UUID.randomUUID(), 5));
+        assertTrue(saintService.getSimilarSaints(saint.getId(), 5).isEmpty());
+    }
+
+    @Test
+    void getAllSaintsByFeastCodeSupportsLeapDay() {
+        saint.setFeastDay(MonthDay.of(2, 29));
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)));
+
+        assertEquals(1, saintService.getAllSaintsByFeastCode("02-29").size());
+        assertTrue(saintService.getAllSaintsByFeastCode("03-01").isEmpty());
     }
 
     @Test
     void getAllSaintsByFeastDayReturnsList() {
-        MonthDay today = MonthDay.now();
-        when(saintRepository.findAllByFeastDay(today)).thenReturn(List.of(saint));
+        when(todaysSaints.getSaints(ZoneId.systemDefault())).thenReturn(SaintCatalogSnapshot.of(1, List.of(saint)).getSaints());
 
         assertEquals(1, saintService.getAllSaintsByFeastDay().size());
+        verifyNoInteractions(saintRepository);
     }
 
     @Test
     void getAllSaintsByFeastDayReturnsEmpty() {
-        when(saintRepository.findAllByFeastDay(any())).thenReturn(Collections.emptyList());
+        when(todaysSaints.getSaints(ZoneId.systemDefault())).thenReturn(List.of());
         assertTrue(saintService.getAllSaintsByFeastDay().isEmpty());
     }
 
@@ -261,9 +596,9 @@ public class SaintServiceTest {
         s2.setName("B");
         s2.setFeastDay(MonthDay.of(10, 4));
 
-        when(saintRepository.findAll()).thenReturn(List.of(s1, s2));
+        when(saintCatalog.snapshot()).thenReturn(SaintCatalogSnapshot.of(1, List.of(s1, s2)));
 
         Map<String, List<String>> result = saintService.getAllFeastDaysMapped();
         assertEquals(List.of("A", "B"), result.get("10-04"));
     }
-}
\ No newline at end of file
+}
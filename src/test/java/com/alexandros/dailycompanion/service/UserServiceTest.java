@@ -12,6 +12,7 @@ import com.alexandros.dailycompanion.enums.AuditAction;
 import com.alexandros.dailycompanion.model.User;
 import com.alexandros.dailycompanion.repository.JournalEntryRepository;
 import com.alexandros.dailycompanion.repository.RosaryLogRepository;
+import com.alexandros.dailycompanion.repository.RosaryStatsRepository;
 import com.alexandros.dailycompanion.repository.UserRepository;
 import com.alexandros.dailycompanion.security.JwtUtil;
 import com.alexandros.dailycompanion.security.PasswordUtil;
@@ -48,6 +49,9 @@ public class UserServiceTest {
     @Mock
     private RosaryLogRepository rosaryLogRepository;
 
+    @Mock
+    private RosaryStatsRepository rosaryStatsRepository;
+
     @Mock
     private JwtUtil jwtUtil;
 
@@ -185,6 +189,7 @@ public class UserServiceTest {
         when(serviceHelper.getAuthenticatedUser()).thenReturn(user);
         userService.deleteUser(user.getId(), "127.0.0.1");
         verify(userRepository).deleteById(user.getId());
+        verify(rosaryStatsRepository).deleteById(user.getId());
     }
 
     @Test